@@ -16,7 +16,6 @@ import java.util.function.Predicate;
 import org.w3c.dom.Document;
 
 import net.filebot.CachedResource.Transform;
-import net.sf.ehcache.Element;
 
 public class Cache {
 
@@ -49,12 +48,14 @@ public class Cache {
 		return new CachedResource<T, Object>(key, resource, fetchIfModified(), validateJson(getText(UTF_8)), getJson(String.class::cast), ONE_DAY, this);
 	}
 
-	private final net.sf.ehcache.Cache cache;
+	private final CacheStore cache;
 	private final CacheType cacheType;
+	private final CacheStatistics statistics;
 
-	public Cache(net.sf.ehcache.Cache cache, CacheType cacheType) {
+	public Cache(CacheStore cache, CacheType cacheType) {
 		this.cache = cache;
 		this.cacheType = cacheType;
+		this.statistics = CacheStatistics.forCache(cache.getName());
 	}
 
 	public String getName() {
@@ -65,27 +66,54 @@ public class Cache {
 		return cacheType;
 	}
 
+	public CacheStatistics getStatistics() {
+		return statistics;
+	}
+
 	public Object get(Object key) {
 		try {
-			return getElementValue(cache.get(key));
+			CacheEntry element = cache.get(key);
+			if (element == null) {
+				statistics.miss();
+			} else {
+				statistics.hit();
+			}
+			return getElementValue(element);
 		} catch (Exception e) {
 			debug.warning(format("Cache get: %s => %s", key, e));
 		}
 		return null;
 	}
 
-	public Object computeIf(Object key, Predicate<Element> condition, Compute<?> compute) throws Exception {
+	public long getLastModified(Object key) {
+		try {
+			CacheEntry element = cache.get(key);
+			return element == null ? 0 : element.getLastModified();
+		} catch (Exception e) {
+			debug.warning(format("Cache getLastModified: %s => %s", key, e));
+		}
+		return 0;
+	}
+
+	public Object computeIf(Object key, Predicate<CacheEntry> condition, Compute<?> compute) throws Exception {
 		// get if present
-		Element element = null;
+		CacheEntry element = null;
 		try {
 			element = cache.get(key);
 			if (element != null && !condition.test(element)) {
+				statistics.hit();
 				return getElementValue(element);
 			}
 		} catch (Exception e) {
 			debug.warning(format("Cache computeIf: %s => %s", key, e));
 		}
 
+		if (element == null) {
+			statistics.miss();
+		} else {
+			statistics.revalidate();
+		}
+
 		// compute if absent
 		Object value = compute.apply(element);
 		put(key, value);
@@ -98,18 +126,18 @@ public class Cache {
 
 	public void put(Object key, Object value) {
 		try {
-			cache.put(createElement(key, value));
+			cache.put(key, createElementValue(value));
 		} catch (Exception e) {
 			debug.warning(format("Cache put: %s => %s", key, e));
 		}
 	}
 
-	protected Object getElementValue(Element element) {
-		return element == null ? null : element.getObjectValue();
+	protected Object getElementValue(CacheEntry element) {
+		return element == null ? null : element.getValue();
 	}
 
-	protected Element createElement(Object key, Object value) {
-		return new Element(key, value);
+	protected Object createElementValue(Object value) {
+		return value;
 	}
 
 	public void remove(Object key) {
@@ -130,7 +158,7 @@ public class Cache {
 
 	public void clear() {
 		try {
-			cache.removeAll();
+			cache.clear();
 		} catch (Exception e) {
 			debug.warning(format("Cache clear: %s => %s", cache.getName(), e));
 		}
@@ -141,13 +169,13 @@ public class Cache {
 		return cache.getName();
 	}
 
-	public static Predicate<Element> isStale(Duration expirationTime) {
-		return element -> System.currentTimeMillis() - element.getLatestOfCreationAndUpdateTime() > expirationTime.toMillis();
+	public static Predicate<CacheEntry> isStale(Duration expirationTime) {
+		return element -> System.currentTimeMillis() - element.getLastModified() > expirationTime.toMillis();
 	}
 
 	@FunctionalInterface
 	public interface Compute<R> {
-		R apply(Element element) throws Exception;
+		R apply(CacheEntry element) throws Exception;
 	}
 
 	public <V> TypedCache<V> typed(Function<Object, V> read, Function<V, Object> write) {
@@ -167,7 +195,7 @@ public class Cache {
 		private final Function<Object, V> read;
 		private final Function<V, Object> write;
 
-		public TypedCache(net.sf.ehcache.Cache cache, CacheType cacheType, Function<Object, V> read, Function<V, Object> write) {
+		public TypedCache(CacheStore cache, CacheType cacheType, Function<Object, V> read, Function<V, Object> write) {
 			super(cache, cacheType);
 			this.read = read;
 			this.write = write;
@@ -179,7 +207,7 @@ public class Cache {
 		}
 
 		@Override
-		public V computeIf(Object key, Predicate<Element> condition, Compute<?> compute) throws Exception {
+		public V computeIf(Object key, Predicate<CacheEntry> condition, Compute<?> compute) throws Exception {
 			return (V) super.computeIf(key, condition, compute);
 		}
 
@@ -189,13 +217,13 @@ public class Cache {
 		}
 
 		@Override
-		protected Object getElementValue(Element element) {
+		protected Object getElementValue(CacheEntry element) {
 			return read.apply(super.getElementValue(element));
 		}
 
 		@Override
-		protected Element createElement(Object key, Object value) {
-			return super.createElement(key, write.apply((V) value));
+		protected Object createElementValue(Object value) {
+			return super.createElementValue(write.apply((V) value));
 		}
 	}
 
@@ -0,0 +1,16 @@
+package net.filebot;
+
+/**
+ * Storage backend for all {@link Cache} instances of the application.
+ */
+public interface CacheBackend {
+
+	CacheStore getStore(String name, CacheType type) throws Exception;
+
+	void flushAll();
+
+	void clearAll();
+
+	void shutdown();
+
+}
@@ -0,0 +1,405 @@
+package net.filebot;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import net.filebot.util.ByteBufferInputStream;
+import net.filebot.util.ByteBufferOutputStream;
+import net.filebot.web.AbstractEpisodeListProvider.SeriesData;
+import net.filebot.web.Episode;
+import net.filebot.web.Movie;
+import net.filebot.web.SearchResult;
+import net.filebot.web.SeriesInfo;
+import net.filebot.web.SimpleDate;
+import net.filebot.web.TheTVDBSeriesInfo;
+
+/**
+ * Compact binary encoding for cache keys and values. Common value types are written field by field, everything else falls back to Java serialization.
+ */
+public final class CacheCodec {
+
+	/**
+	 * Must be incremented whenever the binary encoding of any type changes
+	 */
+	public static final int VERSION = 2;
+
+	private static final int NULL = 0;
+	private static final int STRING = 1;
+	private static final int INTEGER = 2;
+	private static final int LONG = 3;
+	private static final int DOUBLE = 4;
+	private static final int BOOLEAN = 5;
+	private static final int BYTES = 6;
+	private static final int OBJECT_ARRAY = 7;
+	private static final int STRING_ARRAY = 8;
+	private static final int LIST = 9;
+	private static final int SIMPLE_DATE = 10;
+	private static final int SEARCH_RESULT = 11;
+	private static final int MOVIE = 12;
+	private static final int SERIES_INFO = 13;
+	private static final int THETVDB_SERIES_INFO = 14;
+	private static final int EPISODE = 15;
+	private static final int SERIES_DATA = 16;
+	private static final int OBJECT_KEY = 126;
+	private static final int SERIALIZABLE = 127;
+
+	public static byte[] encodeKey(Object key) throws IOException {
+		if (key == null || key instanceof Serializable) {
+			return encode(key);
+		}
+
+		// arbitrary objects are identified by type and string value
+		ByteBufferOutputStream buffer = new ByteBufferOutputStream(64);
+		try (DataOutputStream out = new DataOutputStream(buffer)) {
+			out.writeByte(OBJECT_KEY);
+			writeString(out, key.getClass().getName());
+			writeString(out, key.toString());
+		}
+		return buffer.getByteArray();
+	}
+
+	public static byte[] encode(Object value) throws IOException {
+		ByteBufferOutputStream buffer = new ByteBufferOutputStream(256);
+		try (DataOutputStream out = new DataOutputStream(buffer)) {
+			write(out, value);
+		}
+		return buffer.getByteArray();
+	}
+
+	public static Object decode(ByteBuffer data) throws IOException {
+		try (DataInputStream in = new DataInputStream(new ByteBufferInputStream(data))) {
+			return read(in);
+		} catch (ClassNotFoundException e) {
+			throw new IOException(e);
+		}
+	}
+
+	private static void write(DataOutputStream out, Object value) throws IOException {
+		if (value == null) {
+			out.writeByte(NULL);
+		} else if (value instanceof String) {
+			out.writeByte(STRING);
+			writeString(out, (String) value);
+		} else if (value instanceof Integer) {
+			out.writeByte(INTEGER);
+			out.writeInt((Integer) value);
+		} else if (value instanceof Long) {
+			out.writeByte(LONG);
+			out.writeLong((Long) value);
+		} else if (value instanceof Double) {
+			out.writeByte(DOUBLE);
+			out.writeDouble((Double) value);
+		} else if (value instanceof Boolean) {
+			out.writeByte(BOOLEAN);
+			out.writeBoolean((Boolean) value);
+		} else if (value instanceof byte[]) {
+			byte[] bytes = (byte[]) value;
+			out.writeByte(BYTES);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		} else if (value.getClass() == Object[].class) {
+			Object[] array = (Object[]) value;
+			out.writeByte(OBJECT_ARRAY);
+			out.writeInt(array.length);
+			for (Object it : array) {
+				write(out, it);
+			}
+		} else if (value.getClass() == String[].class) {
+			out.writeByte(STRING_ARRAY);
+			writeStringArray(out, (String[]) value);
+		} else if (value.getClass() == ArrayList.class) {
+			List<?> list = (List<?>) value;
+			out.writeByte(LIST);
+			out.writeInt(list.size());
+			for (Object it : list) {
+				write(out, it);
+			}
+		} else if (value.getClass() == SimpleDate.class) {
+			out.writeByte(SIMPLE_DATE);
+			writeSimpleDate(out, (SimpleDate) value);
+		} else if (value.getClass() == SearchResult.class) {
+			SearchResult r = (SearchResult) value;
+			out.writeByte(SEARCH_RESULT);
+			out.writeInt(r.getId());
+			writeNullableString(out, r.getName());
+			writeStringArray(out, r.getAliasNames());
+		} else if (value.getClass() == Movie.class && isMovieIdentity((Movie) value)) {
+			Movie m = (Movie) value;
+			out.writeByte(MOVIE);
+			writeNullableString(out, m.getName());
+			writeStringArray(out, m.getAliasNames());
+			out.writeInt(m.getYear());
+			out.writeInt(m.getImdbId());
+			out.writeInt(m.getTmdbId());
+			writeNullableString(out, m.getLanguage() == null ? null : m.getLanguage().getLanguage());
+		} else if (value.getClass() == SeriesInfo.class) {
+			out.writeByte(SERIES_INFO);
+			writeSeriesInfo(out, (SeriesInfo) value);
+		} else if (value.getClass() == TheTVDBSeriesInfo.class) {
+			TheTVDBSeriesInfo i = (TheTVDBSeriesInfo) value;
+			out.writeByte(THETVDB_SERIES_INFO);
+			writeSeriesInfo(out, i);
+			writeNullableString(out, i.getSlug());
+			writeNullableString(out, i.getImdbId());
+			writeNullableString(out, i.getOverview());
+			writeNullableString(out, i.getAirsDayOfWeek());
+			writeNullableString(out, i.getAirsTime());
+			writeNullableString(out, i.getBannerUrl() == null ? null : i.getBannerUrl().toString());
+			out.writeLong(i.getLastUpdated());
+		} else if (value.getClass() == Episode.class) {
+			Episode e = (Episode) value;
+			out.writeByte(EPISODE);
+			write(out, e.getSeriesInfo());
+			writeEpisode(out, e);
+		} else if (value.getClass() == SeriesData.class) {
+			SeriesData d = (SeriesData) value;
+			out.writeByte(SERIES_DATA);
+			write(out, d.seriesInfo);
+			out.writeInt(d.episodeList.length);
+
+			// episodes usually share the same series info, so only store it when it changes
+			SeriesInfo previous = d.seriesInfo;
+			byte[] previousBytes = null;
+			for (Episode e : d.episodeList) {
+				SeriesInfo seriesInfo = previous;
+				boolean repeat = e.isSeriesInfo(previous);
+				byte[] seriesInfoBytes = null;
+
+				// compare encoded values if episodes carry equal copies
+				if (!repeat) {
+					seriesInfo = e.getSeriesInfo();
+					seriesInfoBytes = encode(seriesInfo);
+					if (previousBytes == null) {
+						previousBytes = encode(previous);
+					}
+					repeat = Arrays.equals(seriesInfoBytes, previousBytes);
+				}
+
+				out.writeBoolean(repeat);
+				if (!repeat) {
+					out.write(seriesInfoBytes);
+					previous = seriesInfo;
+					previousBytes = seriesInfoBytes;
+				}
+				writeEpisode(out, e);
+			}
+		} else if (value instanceof Serializable) {
+			out.writeByte(SERIALIZABLE);
+			ObjectOutputStream oos = new ObjectOutputStream(out);
+			oos.writeObject(value);
+			oos.flush();
+		} else {
+			throw new IOException("Unsupported type: " + value.getClass().getName());
+		}
+	}
+
+	private static Object read(DataInputStream in) throws IOException, ClassNotFoundException {
+		int type = in.readUnsignedByte();
+		switch (type) {
+		case NULL:
+			return null;
+		case STRING:
+			return readString(in);
+		case INTEGER:
+			return in.readInt();
+		case LONG:
+			return in.readLong();
+		case DOUBLE:
+			return in.readDouble();
+		case BOOLEAN:
+			return in.readBoolean();
+		case BYTES:
+			byte[] bytes = new byte[in.readInt()];
+			in.readFully(bytes);
+			return bytes;
+		case OBJECT_ARRAY:
+			Object[] array = new Object[in.readInt()];
+			for (int i = 0; i < array.length; i++) {
+				array[i] = read(in);
+			}
+			return array;
+		case STRING_ARRAY:
+			return readStringArray(in);
+		case LIST:
+			int size = in.readInt();
+			List<Object> list = new ArrayList<Object>(size);
+			for (int i = 0; i < size; i++) {
+				list.add(read(in));
+			}
+			return list;
+		case SIMPLE_DATE:
+			return new SimpleDate(in.readInt(), in.readInt(), in.readInt());
+		case SEARCH_RESULT:
+			return new SearchResult(in.readInt(), readNullableString(in), readStringArray(in));
+		case MOVIE:
+			String name = readNullableString(in);
+			String[] aliasNames = readStringArray(in);
+			int year = in.readInt();
+			int imdbId = in.readInt();
+			int tmdbId = in.readInt();
+			String language = readNullableString(in);
+			return new Movie(name, aliasNames, year, imdbId, tmdbId, language == null ? null : new Locale(language));
+		case SERIES_INFO:
+			return readSeriesInfo(in, new SeriesInfo());
+		case THETVDB_SERIES_INFO:
+			TheTVDBSeriesInfo i = readSeriesInfo(in, new TheTVDBSeriesInfo());
+			i.setSlug(readNullableString(in));
+			i.setImdbId(readNullableString(in));
+			i.setOverview(readNullableString(in));
+			i.setAirsDayOfWeek(readNullableString(in));
+			i.setAirsTime(readNullableString(in));
+			String banner = readNullableString(in);
+			i.setBannerUrl(banner == null ? null : new URL(banner));
+			i.setLastUpdated(in.readLong());
+			return i;
+		case EPISODE:
+			return readEpisode(in, (SeriesInfo) read(in));
+		case SERIES_DATA:
+			SeriesInfo seriesInfo = (SeriesInfo) read(in);
+			Episode[] episodes = new Episode[in.readInt()];
+			SeriesInfo previous = seriesInfo;
+			for (int j = 0; j < episodes.length; j++) {
+				// restore shared series info
+				if (!in.readBoolean()) {
+					previous = (SeriesInfo) read(in);
+				}
+				episodes[j] = readEpisode(in, previous);
+			}
+			SeriesData data = new SeriesData();
+			data.seriesInfo = seriesInfo;
+			data.episodeList = episodes;
+			return data;
+		case SERIALIZABLE:
+			return new ObjectInputStream(in).readObject();
+		default:
+			throw new IOException("Unsupported type: " + type);
+		}
+	}
+
+	private static boolean isMovieIdentity(Movie m) {
+		// make sure that the generic id can be restored from the IMDb / TMDb id
+		return m.getId() == (m.getTmdbId() > 0 ? m.getTmdbId() : m.getImdbId() > 0 ? m.getImdbId() : 0);
+	}
+
+	private static void writeEpisode(DataOutputStream out, Episode e) throws IOException {
+		writeNullableString(out, e.getSeriesName());
+		writeNullableInteger(out, e.getSeason());
+		writeNullableInteger(out, e.getEpisode());
+		writeNullableString(out, e.getTitle());
+		writeNullableInteger(out, e.getAbsolute());
+		writeNullableInteger(out, e.getSpecial());
+		write(out, e.getAirdate());
+		writeNullableInteger(out, e.getId());
+	}
+
+	private static Episode readEpisode(DataInputStream in, SeriesInfo seriesInfo) throws IOException, ClassNotFoundException {
+		return new Episode(readNullableString(in), readNullableInteger(in), readNullableInteger(in), readNullableString(in), readNullableInteger(in), readNullableInteger(in), (SimpleDate) read(in), readNullableInteger(in), seriesInfo);
+	}
+
+	private static void writeSimpleDate(DataOutputStream out, SimpleDate d) throws IOException {
+		out.writeInt(d.getYear());
+		out.writeInt(d.getMonth());
+		out.writeInt(d.getDay());
+	}
+
+	private static void writeSeriesInfo(DataOutputStream out, SeriesInfo i) throws IOException {
+		writeNullableString(out, i.getDatabase());
+		writeNullableString(out, i.getOrder());
+		writeNullableString(out, i.getLanguage());
+		writeNullableInteger(out, i.getId());
+		writeNullableString(out, i.getName());
+		writeStringArray(out, i.getAliasNames().toArray(new String[0]));
+		writeNullableString(out, i.getCertification());
+		write(out, i.getStartDate());
+		writeStringArray(out, i.getGenres().toArray(new String[0]));
+		writeNullableString(out, i.getNetwork());
+		write(out, i.getRating());
+		writeNullableInteger(out, i.getRatingCount());
+		writeNullableInteger(out, i.getRuntime());
+		writeNullableString(out, i.getStatus());
+	}
+
+	private static <T extends SeriesInfo> T readSeriesInfo(DataInputStream in, T i) throws IOException, ClassNotFoundException {
+		i.setDatabase(readNullableString(in));
+		i.setOrder(readNullableString(in));
+		i.setLanguage(readNullableString(in));
+		i.setId(readNullableInteger(in));
+		i.setName(readNullableString(in));
+		i.setAliasNames(readStringArray(in));
+		i.setCertification(readNullableString(in));
+		i.setStartDate((SimpleDate) read(in));
+		i.setGenres(Arrays.asList(readStringArray(in)));
+		i.setNetwork(readNullableString(in));
+		i.setRating((Double) read(in));
+		i.setRatingCount(readNullableInteger(in));
+		i.setRuntime(readNullableInteger(in));
+		i.setStatus(readNullableString(in));
+		return i;
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException {
+		byte[] bytes = s.getBytes(UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, UTF_8);
+	}
+
+	private static void writeNullableString(DataOutputStream out, String s) throws IOException {
+		out.writeBoolean(s != null);
+		if (s != null) {
+			writeString(out, s);
+		}
+	}
+
+	private static String readNullableString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? readString(in) : null;
+	}
+
+	private static void writeNullableInteger(DataOutputStream out, Integer i) throws IOException {
+		out.writeBoolean(i != null);
+		if (i != null) {
+			out.writeInt(i);
+		}
+	}
+
+	private static Integer readNullableInteger(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readInt() : null;
+	}
+
+	private static void writeStringArray(DataOutputStream out, String[] array) throws IOException {
+		out.writeInt(array.length);
+		for (String s : array) {
+			writeNullableString(out, s);
+		}
+	}
+
+	private static String[] readStringArray(DataInputStream in) throws IOException {
+		String[] array = new String[in.readInt()];
+		for (int i = 0; i < array.length; i++) {
+			array[i] = readNullableString(in);
+		}
+		return array;
+	}
+
+	private CacheCodec() {
+		throw new UnsupportedOperationException();
+	}
+
+}
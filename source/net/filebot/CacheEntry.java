@@ -0,0 +1,26 @@
+package net.filebot;
+
+public class CacheEntry {
+
+	private final Object value;
+	private final long lastModified;
+
+	public CacheEntry(Object value, long lastModified) {
+		this.value = value;
+		this.lastModified = lastModified;
+	}
+
+	public Object getValue() {
+		return value;
+	}
+
+	public long getLastModified() {
+		return lastModified;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s [%tF %<tT]", value, lastModified);
+	}
+
+}
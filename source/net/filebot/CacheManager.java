@@ -13,59 +13,50 @@ import java.nio.file.StandardOpenOption;
 import java.util.Scanner;
 import java.util.logging.Level;
 
-import net.sf.ehcache.CacheException;
-import net.sf.ehcache.config.Configuration;
-import net.sf.ehcache.config.DiskStoreConfiguration;
+import net.filebot.util.SystemProperty;
 
 public class CacheManager {
 
+	private static final SystemProperty<Backend> backendType = SystemProperty.of("net.filebot.cache.backend", Backend::forName, Backend.ehcache);
+
 	private static final CacheManager instance = new CacheManager();
 
 	public static CacheManager getInstance() {
 		return instance;
 	}
 
+	private final Backend type;
 	private final File diskStore;
-	private final net.sf.ehcache.CacheManager manager;
+	private final CacheBackend backend;
 
 	public CacheManager() {
 		try {
+			this.type = backendType.get();
 			this.diskStore = acquireDiskStore();
-			this.manager = net.sf.ehcache.CacheManager.create(new Configuration().diskStore(new DiskStoreConfiguration().path(diskStore.getPath())));
+			this.backend = type.create(diskStore);
 		} catch (IOException e) {
-			throw new CacheException(e);
+			throw new IllegalStateException(e);
 		}
 	}
 
-	public synchronized Cache getCache(String name, CacheType type) {
-		if (!manager.cacheExists(name)) {
-			manager.addCache(new net.sf.ehcache.Cache(type.getConfiguration(name)));
+	public Cache getCache(String name, CacheType type) {
+		try {
+			return new Cache(backend.getStore(name, type), type);
+		} catch (Exception e) {
+			throw new IllegalStateException("Failed to create cache: " + name, e);
 		}
-		return new Cache(manager.getCache(name), type);
 	}
 
 	public void flushAll() {
-		for (String n : manager.getCacheNames()) {
-			try {
-				manager.getCache(n).flush();
-			} catch (Exception e) {
-				debug.warning(e::toString);
-			}
-		}
+		backend.flushAll();
 	}
 
 	public void clearAll() {
-		for (String n : manager.getCacheNames()) {
-			try {
-				manager.getCache(n).removeAll();
-			} catch (Exception e) {
-				debug.warning(e::toString);
-			}
-		}
+		backend.clearAll();
 	}
 
 	public synchronized void shutdown() {
-		manager.shutdown();
+		backend.shutdown();
 	}
 
 	private void clearDiskStore(File cache) {
@@ -105,7 +96,7 @@ public class CacheManager {
 					}
 				}
 
-				if (cacheRevision != applicationRevision && applicationRevision > 0 && !isNewCache) {
+				if (cacheRevision != applicationRevision && applicationRevision > 0 && !isNewCache && type.isRevisionSensitive()) {
 					debug.warning(format("Current application revision (r%d) does not match cache revision (r%d): reset cache", applicationRevision, cacheRevision));
 
 					// tag cache with new revision number
@@ -137,6 +128,46 @@ public class CacheManager {
 		throw new IOException("Unable to acquire cache lock: " + ApplicationFolder.Cache.get().getAbsolutePath());
 	}
 
+	public enum Backend {
+
+		ehcache {
+
+			@Override
+			public CacheBackend create(File diskStore) {
+				return new EhcacheBackend(diskStore);
+			}
+
+			@Override
+			public boolean isRevisionSensitive() {
+				return true;
+			}
+		},
+
+		mmap {
+
+			@Override
+			public CacheBackend create(File diskStore) throws IOException {
+				return new MappedCacheBackend(new File(diskStore, "mmap"));
+			}
+
+			@Override
+			public boolean isRevisionSensitive() {
+				return false;
+			}
+		};
+
+		public abstract CacheBackend create(File diskStore) throws IOException;
+
+		/**
+		 * Returns true if the disk store must be reset whenever the application revision changes (e.g. because values are stored via Java serialization)
+		 */
+		public abstract boolean isRevisionSensitive();
+
+		public static Backend forName(String name) {
+			return valueOf(name.trim().toLowerCase());
+		}
+	}
+
 	private static class ShutdownHook extends Thread {
 
 		private final CacheManager manager;
@@ -0,0 +1,193 @@
+package net.filebot;
+
+import static java.util.stream.Collectors.*;
+import static net.filebot.Logging.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.management.ObjectName;
+
+/**
+ * Hit / miss / fetch counters for a single named cache. All instances are registered as JMX MBeans (e.g. net.filebot:type=Cache,name=data_0).
+ */
+public class CacheStatistics implements CacheStatisticsMBean {
+
+	private static final Map<String, CacheStatistics> instances = new ConcurrentSkipListMap<String, CacheStatistics>();
+
+	public static CacheStatistics forCache(String name) {
+		return instances.computeIfAbsent(name, CacheStatistics::register);
+	}
+
+	private static CacheStatistics register(String name) {
+		CacheStatistics statistics = new CacheStatistics(name);
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(statistics, new ObjectName("net.filebot:type=Cache,name=" + ObjectName.quote(name)));
+		} catch (Exception e) {
+			debug.warning(format("Failed to register cache statistics MBean: %s => %s", name, e));
+		}
+		return statistics;
+	}
+
+	// upper bounds of the fetch latency histogram buckets in milliseconds
+	private static final long[] LATENCY_BUCKETS = { 50, 100, 250, 500, 1000, 2500, 5000, 10000 };
+
+	private final String name;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder revalidations = new LongAdder();
+	private final LongAdder notModified = new LongAdder();
+	private final LongAdder staleServed = new LongAdder();
+	private final LongAdder retries = new LongAdder();
+	private final LongAdder bytesFetched = new LongAdder();
+	private final LongAdder fetchTime = new LongAdder();
+	private final LongAdder[] fetchLatency = IntStream.rangeClosed(0, LATENCY_BUCKETS.length).mapToObj(i -> new LongAdder()).toArray(LongAdder[]::new);
+
+	private CacheStatistics(String name) {
+		this.name = name;
+	}
+
+	public void hit() {
+		hits.increment();
+	}
+
+	public void miss() {
+		misses.increment();
+	}
+
+	public void revalidate() {
+		revalidations.increment();
+	}
+
+	public void notModified() {
+		notModified.increment();
+	}
+
+	public void staleServed() {
+		staleServed.increment();
+	}
+
+	public void retry() {
+		retries.increment();
+	}
+
+	public void fetch(long bytes, long nanos) {
+		long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+
+		bytesFetched.add(bytes);
+		fetchTime.add(millis);
+
+		int bucket = 0;
+		while (bucket < LATENCY_BUCKETS.length && millis >= LATENCY_BUCKETS[bucket]) {
+			bucket++;
+		}
+		fetchLatency[bucket].increment();
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public long getHits() {
+		return hits.sum();
+	}
+
+	@Override
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	@Override
+	public long getRevalidations() {
+		return revalidations.sum();
+	}
+
+	@Override
+	public long getNotModified() {
+		return notModified.sum();
+	}
+
+	@Override
+	public long getStaleServed() {
+		return staleServed.sum();
+	}
+
+	@Override
+	public long getRetries() {
+		return retries.sum();
+	}
+
+	@Override
+	public long getFetches() {
+		long sum = 0;
+		for (LongAdder it : fetchLatency) {
+			sum += it.sum();
+		}
+		return sum;
+	}
+
+	@Override
+	public long getBytesFetched() {
+		return bytesFetched.sum();
+	}
+
+	@Override
+	public long getFetchTimeMillis() {
+		return fetchTime.sum();
+	}
+
+	@Override
+	public double getHitRatio() {
+		long hits = getHits();
+		long total = hits + getMisses() + getRevalidations();
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	@Override
+	public long[] getFetchLatencyHistogram() {
+		return Stream.of(fetchLatency).mapToLong(LongAdder::sum).toArray();
+	}
+
+	@Override
+	public String[] getFetchLatencyBuckets() {
+		String[] labels = new String[fetchLatency.length];
+		for (int i = 0; i < LATENCY_BUCKETS.length; i++) {
+			labels[i] = "< " + LATENCY_BUCKETS[i] + " ms";
+		}
+		labels[LATENCY_BUCKETS.length] = ">= " + LATENCY_BUCKETS[LATENCY_BUCKETS.length - 1] + " ms";
+		return labels;
+	}
+
+	@Override
+	public void reset() {
+		Stream.of(hits, misses, revalidations, notModified, staleServed, retries, bytesFetched, fetchTime).forEach(LongAdder::reset);
+		Stream.of(fetchLatency).forEach(LongAdder::reset);
+	}
+
+	@Override
+	public String toString() {
+		long fetches = getFetches();
+		long[] histogram = getFetchLatencyHistogram();
+		String[] buckets = getFetchLatencyBuckets();
+
+		String latency = IntStream.range(0, histogram.length).filter(i -> histogram[i] > 0).mapToObj(i -> buckets[i] + ": " + histogram[i]).collect(joining(", ", "[", "]"));
+
+		return String.format("%s: %,d hits, %,d misses, %,d revalidations (%,d not modified), %,d stale, %,d retries, %,d fetches (%,d KB in %,d ms) %s", name, getHits(), getMisses(), getRevalidations(), getNotModified(), getStaleServed(), getRetries(), fetches, getBytesFetched() / 1024, getFetchTimeMillis(), latency);
+	}
+
+	/**
+	 * Summary of all caches that have been accessed
+	 */
+	public static String report() {
+		return instances.values().stream().filter(it -> it.getHits() + it.getMisses() + it.getRevalidations() > 0).map(Object::toString).collect(joining(System.lineSeparator(), "Cache Statistics:" + System.lineSeparator(), ""));
+	}
+
+}
@@ -0,0 +1,36 @@
+package net.filebot;
+
+/**
+ * Management interface for {@link CacheStatistics}.
+ */
+public interface CacheStatisticsMBean {
+
+	String getName();
+
+	long getHits();
+
+	long getMisses();
+
+	long getRevalidations();
+
+	long getNotModified();
+
+	long getStaleServed();
+
+	long getRetries();
+
+	long getFetches();
+
+	long getBytesFetched();
+
+	long getFetchTimeMillis();
+
+	double getHitRatio();
+
+	long[] getFetchLatencyHistogram();
+
+	String[] getFetchLatencyBuckets();
+
+	void reset();
+
+}
@@ -0,0 +1,20 @@
+package net.filebot;
+
+/**
+ * Storage for a single named cache, created by a {@link CacheBackend}.
+ */
+public interface CacheStore {
+
+	String getName();
+
+	CacheEntry get(Object key) throws Exception;
+
+	void put(Object key, Object value) throws Exception;
+
+	void remove(Object key) throws Exception;
+
+	void flush() throws Exception;
+
+	void clear() throws Exception;
+
+}
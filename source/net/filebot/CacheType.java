@@ -2,8 +2,6 @@ package net.filebot;
 
 import java.time.Duration;
 
-import net.sf.ehcache.config.CacheConfiguration;
-
 public enum CacheType {
 
 	Persistent(Duration.ofDays(180)),
@@ -14,16 +12,14 @@ public enum CacheType {
 
 	Daily(Duration.ofHours(18));
 
-	private final long timeToLiveSeconds;
+	private final Duration timeToLive;
 
 	private CacheType(Duration timeToLive) {
-		this.timeToLiveSeconds = timeToLive.getSeconds();
+		this.timeToLive = timeToLive;
 	}
 
-	@SuppressWarnings("deprecation")
-	public CacheConfiguration getConfiguration(String name) {
-		// Strategy.LOCALTEMPSWAP is not restartable so we can't but use the deprecated disk persistent code (see http://stackoverflow.com/a/24623527/1514467)
-		return new CacheConfiguration().name(name).maxEntriesLocalHeap(200).maxEntriesLocalDisk(0).eternal(false).timeToLiveSeconds(timeToLiveSeconds).timeToIdleSeconds(timeToLiveSeconds).overflowToDisk(true).diskPersistent(true);
+	public Duration getTimeToLive() {
+		return timeToLive;
 	}
 
 }
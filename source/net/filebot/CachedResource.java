@@ -81,15 +81,18 @@ public class CachedResource<K, R> implements Resource<R> {
 	public synchronized R get() throws Exception {
 		Object value = cache.computeIf(key, Cache.isStale(expirationTime), element -> {
 			URL url = resource.transform(key);
-			long lastModified = element == null ? 0 : element.getLatestOfCreationAndUpdateTime();
+			long lastModified = element == null ? 0 : element.getLastModified();
 
 			try {
+				long start = System.nanoTime();
 				ByteBuffer data = retry(() -> fetch.fetch(url, lastModified), retryLimit, retryWait);
+				cache.getStatistics().fetch(data == null ? 0 : data.remaining(), System.nanoTime() - start);
 				debug.finest(WebRequest.log(data));
 
 				// 304 Not Modified
-				if (data == null && element != null && element.getObjectValue() != null) {
-					return element.getObjectValue();
+				if (data == null && element != null && element.getValue() != null) {
+					cache.getStatistics().notModified();
+					return element.getValue();
 				}
 
 				if (data == null) {
@@ -101,11 +104,12 @@ public class CachedResource<K, R> implements Resource<R> {
 				debug.log(Level.SEVERE, "Fetch failed: " + url, e);
 
 				// use previously cached data if possible
-				if (element == null || element.getObjectValue() == null) {
+				if (element == null || element.getValue() == null) {
 					throw e;
 				}
 
-				return element.getObjectValue();
+				cache.getStatistics().staleServed();
+				return element.getValue();
 			}
 		});
 
@@ -129,6 +133,7 @@ public class CachedResource<K, R> implements Resource<R> {
 			}
 
 			debug.warning(format("Fetch failed: Try again in %d seconds (%d more) => %s", retryWaitTime.getSeconds(), retryCount, e));
+			cache.getStatistics().retry();
 			Thread.sleep(retryWaitTime.toMillis());
 			return retry(callable, retryCount - 1, retryWaitTime.multipliedBy(2));
 		}
@@ -254,7 +259,7 @@ public class CachedResource<K, R> implements Resource<R> {
 	private static Consumer<Map<String, List<String>>> storeETag(URL url, BiConsumer<URL, String> etagStore, Predicate<String> etagFilter) {
 		return responseHeaders -> {
 			WebRequest.getETag(responseHeaders).filter(etagFilter).ifPresent(etag -> {
-				debug.finest(format("Store ETag: %s", etag));
+				log(debug, Level.FINEST, "Store ETag: %s", etag);
 				etagStore.accept(url, etag);
 			});
 		};
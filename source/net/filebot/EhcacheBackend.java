@@ -0,0 +1,107 @@
+package net.filebot;
+
+import static net.filebot.Logging.*;
+
+import java.io.File;
+
+import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.Element;
+import net.sf.ehcache.config.CacheConfiguration;
+import net.sf.ehcache.config.Configuration;
+import net.sf.ehcache.config.DiskStoreConfiguration;
+
+public class EhcacheBackend implements CacheBackend {
+
+	private final net.sf.ehcache.CacheManager manager;
+
+	public EhcacheBackend(File diskStore) {
+		this.manager = net.sf.ehcache.CacheManager.create(new Configuration().diskStore(new DiskStoreConfiguration().path(diskStore.getPath())));
+	}
+
+	@Override
+	public CacheStore getStore(String name, CacheType type) {
+		// only lock the cache manager when a new cache must be added
+		Ehcache cache = manager.getCache(name);
+		if (cache == null) {
+			cache = manager.addCacheIfAbsent(new net.sf.ehcache.Cache(getConfiguration(name, type)));
+		}
+		return new EhcacheStore(cache);
+	}
+
+	@SuppressWarnings("deprecation")
+	protected CacheConfiguration getConfiguration(String name, CacheType type) {
+		long timeToLiveSeconds = type.getTimeToLive().getSeconds();
+
+		// Strategy.LOCALTEMPSWAP is not restartable so we can't but use the deprecated disk persistent code (see http://stackoverflow.com/a/24623527/1514467)
+		return new CacheConfiguration().name(name).maxEntriesLocalHeap(200).maxEntriesLocalDisk(0).eternal(false).timeToLiveSeconds(timeToLiveSeconds).timeToIdleSeconds(timeToLiveSeconds).overflowToDisk(true).diskPersistent(true);
+	}
+
+	@Override
+	public void flushAll() {
+		for (String n : manager.getCacheNames()) {
+			try {
+				manager.getCache(n).flush();
+			} catch (Exception e) {
+				debug.warning(e::toString);
+			}
+		}
+	}
+
+	@Override
+	public void clearAll() {
+		for (String n : manager.getCacheNames()) {
+			try {
+				manager.getCache(n).removeAll();
+			} catch (Exception e) {
+				debug.warning(e::toString);
+			}
+		}
+	}
+
+	@Override
+	public synchronized void shutdown() {
+		manager.shutdown();
+	}
+
+	private static class EhcacheStore implements CacheStore {
+
+		private final Ehcache cache;
+
+		public EhcacheStore(Ehcache cache) {
+			this.cache = cache;
+		}
+
+		@Override
+		public String getName() {
+			return cache.getName();
+		}
+
+		@Override
+		public CacheEntry get(Object key) {
+			Element element = cache.get(key);
+			return element == null ? null : new CacheEntry(element.getObjectValue(), element.getLatestOfCreationAndUpdateTime());
+		}
+
+		@Override
+		public void put(Object key, Object value) {
+			cache.put(new Element(key, value));
+		}
+
+		@Override
+		public void remove(Object key) {
+			cache.remove(key);
+		}
+
+		@Override
+		public void flush() {
+			cache.flush();
+		}
+
+		@Override
+		public void clear() {
+			cache.removeAll();
+		}
+
+	}
+
+}
@@ -16,8 +16,11 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
+import java.util.logging.ErrorManager;
 import java.util.logging.Formatter;
 import java.util.logging.Handler;
 import java.util.logging.Level;
@@ -39,6 +42,7 @@ public final class Logging {
 	private static final SystemProperty<Boolean> color = SystemProperty.of("net.filebot.logging.color", Boolean::parseBoolean, EscapeCode.isSupported());
 	private static final SystemProperty<Boolean> timeStamp = SystemProperty.of("net.filebot.logging.time", Boolean::parseBoolean, false);
 	private static final SystemProperty<DateTimeFormatter> timeStampFormat = SystemProperty.of("net.filebot.logging.time.format", DateTimeFormatter::ofPattern, DateTimeFormatter.ofPattern("'['uuuu-MM-dd HH:mm:ss.SSS']' "));
+	private static final SystemProperty<Boolean> async = SystemProperty.of("net.filebot.logging.async", Boolean::parseBoolean, false);
 
 	public static final Logger log = createConsoleLogger("net.filebot.console", Level.ALL);
 	public static final Logger debug = createConsoleLogger("net.filebot.debug", debugLevel.get());
@@ -47,10 +51,15 @@ public final class Logging {
 		Logger log = Logger.getLogger(name);
 		log.setUseParentHandlers(false);
 		log.setLevel(level);
-		log.addHandler(createConsoleHandler(level));
+		log.addHandler(async(createConsoleHandler(level)));
 		return log;
 	}
 
+	public static Handler async(Handler handler) {
+		// write log records on a background thread if enabled
+		return async.get() ? new AsyncHandler(handler, 1024) : handler;
+	}
+
 	public static StreamHandler createSimpleFileHandler(File file, Level level) throws IOException {
 		StreamHandler handler = new StreamHandler(new FileOutputStream(file, true), new SimpleFormatter());
 		handler.setEncoding("UTF-8");
@@ -95,6 +104,25 @@ public final class Logging {
 		return () -> String.format(format, args);
 	}
 
+	public static void log(Logger logger, Level level, String format, Object arg) {
+		// check level before allocating or formatting anything
+		if (logger.isLoggable(level)) {
+			logger.log(level, String.format(format, arg));
+		}
+	}
+
+	public static void log(Logger logger, Level level, String format, Object arg1, Object arg2) {
+		if (logger.isLoggable(level)) {
+			logger.log(level, String.format(format, arg1, arg2));
+		}
+	}
+
+	public static void log(Logger logger, Level level, String format, Object arg1, Object arg2, Object arg3) {
+		if (logger.isLoggable(level)) {
+			logger.log(level, String.format(format, arg1, arg2, arg3));
+		}
+	}
+
 	public static Supplier<String> trace(Throwable t) {
 		return () -> {
 			StringBuilder s = new StringBuilder();
@@ -230,6 +258,94 @@ public final class Logging {
 
 	}
 
+	public static class AsyncHandler extends Handler {
+
+		private final Handler handler;
+		private final BlockingQueue<LogRecord> queue;
+
+		private final Thread worker;
+		private int pending = 0;
+		private volatile boolean closed = false;
+
+		public AsyncHandler(Handler handler, int capacity) {
+			this.handler = handler;
+			this.queue = new ArrayBlockingQueue<LogRecord>(capacity);
+
+			this.worker = new Thread(this::run, "AsyncHandler");
+			this.worker.setDaemon(true);
+			this.worker.start();
+		}
+
+		@Override
+		public void publish(LogRecord record) {
+			if (closed || !handler.isLoggable(record)) {
+				return;
+			}
+
+			synchronized (this) {
+				pending++;
+			}
+
+			try {
+				// block if the buffer is full so that log records are never lost
+				queue.put(record);
+			} catch (InterruptedException e) {
+				handler.publish(record);
+				done();
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private void run() {
+			try {
+				while (true) {
+					LogRecord record = queue.take();
+					try {
+						handler.publish(record);
+					} catch (Exception e) {
+						reportError(e.getMessage(), e, ErrorManager.WRITE_FAILURE);
+					} finally {
+						done();
+					}
+				}
+			} catch (InterruptedException e) {
+				// ignore, part of an orderly shutdown
+			}
+		}
+
+		private synchronized void done() {
+			pending--;
+			if (pending <= 0) {
+				notifyAll();
+			}
+		}
+
+		@Override
+		public void flush() {
+			// wait until all pending log records have been written
+			synchronized (this) {
+				while (pending > 0 && worker.isAlive()) {
+					try {
+						wait(100);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						break;
+					}
+				}
+			}
+			handler.flush();
+		}
+
+		@Override
+		public void close() throws SecurityException {
+			flush();
+			closed = true;
+			worker.interrupt();
+			handler.close();
+		}
+
+	}
+
 	public static class EscapeCode {
 
 		// see https://en.wikipedia.org/wiki/ANSI_escape_code#Colors
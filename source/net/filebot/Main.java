@@ -148,6 +148,12 @@ public class Main {
 				 */
 
 				int status = new ArgumentProcessor().run(args);
+
+				// print cache hit / miss and fetch statistics
+				if (args.printCacheStatistics()) {
+					log.info(CacheStatistics.report());
+				}
+
 				System.exit(status);
 			}
 
@@ -656,8 +662,8 @@ public class Main {
 
 			// log errors to file
 			try {
-				Handler errorLogHandler = createSimpleFileHandler(ApplicationFolder.AppData.resolve("error.log"),
-						Level.WARNING);
+				Handler errorLogHandler = async(createSimpleFileHandler(ApplicationFolder.AppData.resolve("error.log"),
+						Level.WARNING));
 				log.addHandler(errorLogHandler);
 				debug.addHandler(errorLogHandler);
 			} catch (Exception e) {
@@ -667,7 +673,7 @@ public class Main {
 
 		// tee stdout and stderr to log file if --log-file is set
 		if (args.logFile != null) {
-			Handler logFileHandler = createLogFileHandler(args.getLogFile(), args.logLock, Level.ALL);
+			Handler logFileHandler = async(createLogFileHandler(args.getLogFile(), args.logLock, Level.ALL));
 			log.addHandler(logFileHandler);
 			debug.addHandler(logFileHandler);
 		}
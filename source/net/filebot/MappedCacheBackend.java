@@ -0,0 +1,71 @@
+package net.filebot;
+
+import static net.filebot.Logging.*;
+import static net.filebot.util.FileUtilities.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class MappedCacheBackend implements CacheBackend {
+
+	private final File folder;
+	private final Map<String, MappedCacheStore> stores = new ConcurrentHashMap<String, MappedCacheStore>();
+
+	public MappedCacheBackend(File folder) throws IOException {
+		createFolders(folder);
+		this.folder = folder;
+	}
+
+	@Override
+	public CacheStore getStore(String name, CacheType type) throws IOException {
+		try {
+			return stores.computeIfAbsent(name, n -> {
+				try {
+					return new MappedCacheStore(n, new File(folder, validateFileName(n) + ".db"), type);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	@Override
+	public void flushAll() {
+		for (MappedCacheStore store : stores.values()) {
+			try {
+				store.flush();
+			} catch (Exception e) {
+				debug.warning(e::toString);
+			}
+		}
+	}
+
+	@Override
+	public void clearAll() {
+		for (MappedCacheStore store : stores.values()) {
+			try {
+				store.clear();
+			} catch (Exception e) {
+				debug.warning(e::toString);
+			}
+		}
+	}
+
+	@Override
+	public synchronized void shutdown() {
+		for (MappedCacheStore store : stores.values()) {
+			try {
+				store.close();
+			} catch (Exception e) {
+				debug.warning(e::toString);
+			}
+		}
+		stores.clear();
+	}
+
+}
@@ -0,0 +1,302 @@
+package net.filebot;
+
+import static net.filebot.Logging.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Append-only key-value store backed by a single memory-mapped file. The hash index is part of the mapped file, so opening an existing store does not require any index rebuild.
+ * <p>
+ * File layout: header, bucket table (offset of the most recent record for each bucket), and records. Each record links to the previous record in the same bucket. Updates and removals append new
+ * records, and stale records are dropped by compaction whenever the store needs to grow.
+ */
+public class MappedCacheStore implements CacheStore {
+
+	private static final int MAGIC = 0x46424D43;
+	private static final int FORMAT_VERSION = 1;
+
+	private static final int HEADER_SIZE = 32;
+	private static final int BUCKET_COUNT = 1 << 14;
+	private static final int DATA_START = HEADER_SIZE + BUCKET_COUNT * Long.BYTES;
+
+	// record header: long previous record, long creation time, int key hash, int key length, int value length (or -1 for removed keys)
+	private static final int RECORD_HEADER_SIZE = 28;
+
+	private static final int INITIAL_CAPACITY = 1 << 20;
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	private static final int END_POSITION = 12;
+
+	private final String name;
+	private final File file;
+	private final long timeToLive;
+
+	private FileChannel channel;
+	private MappedByteBuffer buffer;
+
+	public MappedCacheStore(String name, File file, CacheType type) throws IOException {
+		this(name, file, type.getTimeToLive());
+	}
+
+	protected MappedCacheStore(String name, File file, Duration timeToLive) throws IOException {
+		this.name = name;
+		this.file = file;
+		this.timeToLive = timeToLive.toMillis();
+
+		open();
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public CacheEntry get(Object key) throws Exception {
+		byte[] k = CacheCodec.encodeKey(key);
+		byte[] value = null;
+		long time = 0;
+
+		synchronized (this) {
+			int record = find(k, hash(k));
+			if (record < 0) {
+				return null;
+			}
+
+			int valueLength = buffer.getInt(record + 24);
+			time = buffer.getLong(record + 8);
+
+			if (valueLength < 0 || System.currentTimeMillis() - time > timeToLive) {
+				return null;
+			}
+
+			value = new byte[valueLength];
+			read(record + RECORD_HEADER_SIZE + k.length, value);
+		}
+
+		// decode value outside of the lock
+		try {
+			return new CacheEntry(CacheCodec.decode(ByteBuffer.wrap(value)), time);
+		} catch (Exception e) {
+			debug.finest(format("Cache [%s] failed to decode value: %s => %s", name, key, e));
+			return null;
+		}
+	}
+
+	@Override
+	public void put(Object key, Object value) throws Exception {
+		byte[] k = CacheCodec.encodeKey(key);
+		byte[] v = CacheCodec.encode(value);
+
+		synchronized (this) {
+			append(k, v, System.currentTimeMillis());
+		}
+	}
+
+	@Override
+	public void remove(Object key) throws Exception {
+		byte[] k = CacheCodec.encodeKey(key);
+
+		synchronized (this) {
+			if (find(k, hash(k)) >= 0) {
+				append(k, null, System.currentTimeMillis());
+			}
+		}
+	}
+
+	@Override
+	public synchronized void flush() {
+		buffer.force();
+	}
+
+	@Override
+	public synchronized void clear() throws IOException {
+		reset(buffer.capacity());
+	}
+
+	public synchronized void close() throws IOException {
+		buffer.force();
+		channel.close();
+	}
+
+	private void open() throws IOException {
+		channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+		long size = channel.size();
+		if (size > DATA_START && size <= MAXIMUM_CAPACITY) {
+			buffer = channel.map(MapMode.READ_WRITE, 0, size);
+
+			// reuse existing store as is
+			if (buffer.getInt(0) == MAGIC && buffer.getInt(4) == FORMAT_VERSION && buffer.getInt(8) == CacheCodec.VERSION && getEnd() >= DATA_START && getEnd() <= size) {
+				return;
+			}
+
+			debug.warning(format("Cache [%s] is incompatible or corrupted: reset %s", name, file));
+		}
+
+		reset(INITIAL_CAPACITY);
+	}
+
+	private void reset(int capacity) throws IOException {
+		// never truncate the file since mapped files cannot be truncated on all platforms
+		if (buffer == null || buffer.capacity() < capacity) {
+			buffer = channel.map(MapMode.READ_WRITE, 0, capacity);
+		}
+
+		for (int i = HEADER_SIZE; i < DATA_START; i += Long.BYTES) {
+			buffer.putLong(i, 0);
+		}
+
+		buffer.putInt(0, MAGIC);
+		buffer.putInt(4, FORMAT_VERSION);
+		buffer.putInt(8, CacheCodec.VERSION);
+		setEnd(DATA_START);
+	}
+
+	private long getEnd() {
+		return buffer.getLong(END_POSITION);
+	}
+
+	private void setEnd(long end) {
+		buffer.putLong(END_POSITION, end);
+	}
+
+	private static int hash(byte[] key) {
+		return Arrays.hashCode(key);
+	}
+
+	private static int bucket(int hash) {
+		return HEADER_SIZE + (hash & (BUCKET_COUNT - 1)) * Long.BYTES;
+	}
+
+	private int find(byte[] key, int hash) {
+		for (long record = buffer.getLong(bucket(hash)); record > 0; record = buffer.getLong((int) record)) {
+			int r = (int) record;
+			if (buffer.getInt(r + 16) == hash && buffer.getInt(r + 20) == key.length && equals(r + RECORD_HEADER_SIZE, key)) {
+				return r;
+			}
+		}
+		return -1;
+	}
+
+	private boolean equals(int position, byte[] key) {
+		for (int i = 0; i < key.length; i++) {
+			if (buffer.get(position + i) != key[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void read(int position, byte[] bytes) {
+		ByteBuffer data = buffer.duplicate();
+		data.position(position);
+		data.get(bytes);
+	}
+
+	private void write(int position, byte[] bytes) {
+		ByteBuffer data = buffer.duplicate();
+		data.position(position);
+		data.put(bytes);
+	}
+
+	private void append(byte[] key, byte[] value, long time) throws IOException {
+		long length = RECORD_HEADER_SIZE + key.length + (value == null ? 0 : value.length);
+
+		if (DATA_START + length > MAXIMUM_CAPACITY / 2) {
+			debug.warning(format("Cache [%s] value is too large: %,d bytes", name, length));
+			return;
+		}
+
+		if (getEnd() + length > buffer.capacity()) {
+			grow(length);
+		}
+
+		int hash = hash(key);
+		int bucket = bucket(hash);
+		int record = (int) getEnd();
+
+		// write record before linking it so that an interrupted write will never corrupt the index
+		buffer.putLong(record, buffer.getLong(bucket));
+		buffer.putLong(record + 8, time);
+		buffer.putInt(record + 16, hash);
+		buffer.putInt(record + 20, key.length);
+		buffer.putInt(record + 24, value == null ? -1 : value.length);
+		write(record + RECORD_HEADER_SIZE, key);
+		if (value != null) {
+			write(record + RECORD_HEADER_SIZE + key.length, value);
+		}
+
+		setEnd(record + length);
+		buffer.putLong(bucket, record);
+	}
+
+	private void grow(long length) throws IOException {
+		// collect the latest live record for each key
+		long now = System.currentTimeMillis();
+		List<byte[][]> entries = new ArrayList<byte[][]>();
+		List<Long> times = new ArrayList<Long>();
+		long size = DATA_START + length;
+
+		for (int b = 0; b < BUCKET_COUNT; b++) {
+			List<byte[]> keys = new ArrayList<byte[]>();
+			for (long record = buffer.getLong(HEADER_SIZE + b * Long.BYTES); record > 0; record = buffer.getLong((int) record)) {
+				int r = (int) record;
+				byte[] key = new byte[buffer.getInt(r + 20)];
+				read(r + RECORD_HEADER_SIZE, key);
+
+				// skip overwritten records
+				if (keys.stream().anyMatch(k -> Arrays.equals(k, key))) {
+					continue;
+				}
+				keys.add(key);
+
+				int valueLength = buffer.getInt(r + 24);
+				long time = buffer.getLong(r + 8);
+
+				if (valueLength >= 0 && now - time <= timeToLive) {
+					byte[] value = new byte[valueLength];
+					read(r + RECORD_HEADER_SIZE + key.length, value);
+					entries.add(new byte[][] { key, value });
+					times.add(time);
+					size += RECORD_HEADER_SIZE + key.length + value.length;
+				}
+			}
+		}
+
+		// make sure at least half of the capacity is free after compaction
+		long capacity = INITIAL_CAPACITY;
+		while (capacity < size * 2 && capacity < MAXIMUM_CAPACITY) {
+			capacity *= 2;
+		}
+
+		if (size > capacity) {
+			debug.warning(format("Cache [%s] exceeds maximum capacity: reset %s", name, file));
+			entries.clear();
+		}
+
+		debug.finest(format("Cache [%s] compact %,d entries (%,d KB)", name, entries.size(), capacity / 1024));
+		reset((int) capacity);
+
+		// re-append in reverse order so that each bucket chain keeps its order
+		for (int i = entries.size() - 1; i >= 0; i--) {
+			append(entries.get(i)[0], entries.get(i)[1], times.get(i));
+		}
+	}
+
+	@Override
+	public String toString() {
+		return name + " [" + file + "]";
+	}
+
+}
@@ -1,6 +1,7 @@
 package net.filebot.archive;
 
 import static java.util.Arrays.*;
+import static java.util.Collections.*;
 import static net.filebot.MediaTypes.*;
 import static net.filebot.util.StringUtilities.*;
 
@@ -9,6 +10,7 @@ import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -16,6 +18,9 @@ import java.util.stream.Stream;
 import org.apache.commons.vfs2.FileSystemException;
 import org.apache.commons.vfs2.VFS;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import net.filebot.util.FileUtilities.ExtensionFileFilter;
 import net.filebot.util.SystemProperty;
 import net.filebot.vfs.FileInfo;
@@ -61,6 +66,66 @@ public class Archive implements Closeable {
 		return new Archive(getExtractor().newInstance(archive));
 	}
 
+	/**
+	 * Get the list of files in the given archive. Listings are cached and reused as long as none of the archive volumes have been modified.
+	 */
+	public static List<FileInfo> listFiles(File archive) throws Exception {
+		String volumes = getVolumeSignature(archive);
+
+		Listing listing = listingCache.getIfPresent(archive);
+		if (listing != null && listing.volumes.equals(volumes)) {
+			return listing.files;
+		}
+
+		List<FileInfo> files;
+		try (Archive it = open(archive)) {
+			files = unmodifiableList(it.listFiles());
+		}
+
+		listingCache.put(archive, new Listing(volumes, files));
+		return files;
+	}
+
+	private static final Cache<File, Listing> listingCache = Caffeine.newBuilder().maximumSize(1000).expireAfterAccess(10, TimeUnit.MINUTES).build();
+
+	private static class Listing {
+
+		public final String volumes;
+		public final List<FileInfo> files;
+
+		public Listing(String volumes, List<FileInfo> files) {
+			this.volumes = volumes;
+			this.files = files;
+		}
+	}
+
+	private static final Pattern volumeName = Pattern.compile("([.]part[0-9]+)?[.][^.]+([.][0-9]{3})?$", Pattern.CASE_INSENSITIVE);
+	private static final Pattern volumeIndex = Pattern.compile("[.][rz][0-9]+$", Pattern.CASE_INSENSITIVE);
+	private static final FileFilter archiveFiles = new ExtensionFileFilter(getArchiveTypes());
+
+	private static String getVolumeSignature(File archive) {
+		StringBuilder signature = new StringBuilder().append(archive.length()).append(':').append(archive.lastModified());
+
+		// multi-volume archives may be incomplete or still be written to when the first volume is listed
+		File folder = archive.getAbsoluteFile().getParentFile();
+		if (folder != null) {
+			String name = volumeName.matcher(archive.getName()).replaceFirst("");
+
+			File[] volumes = folder.listFiles(f -> {
+				if (f.getName().equals(archive.getName()) || !name.equalsIgnoreCase(volumeName.matcher(f.getName()).replaceFirst(""))) {
+					return false;
+				}
+				return archiveFiles.accept(f) || hasMultiPartIndex(f) || volumeIndex.matcher(f.getName()).find();
+			});
+
+			if (volumes != null) {
+				stream(volumes).sorted().forEach(f -> signature.append('/').append(f.getName()).append(':').append(f.length()).append(':').append(f.lastModified()));
+			}
+		}
+
+		return signature.toString();
+	}
+
 	private final ArchiveExtractor extractor;
 
 	public Archive(ArchiveExtractor extractor) throws Exception {
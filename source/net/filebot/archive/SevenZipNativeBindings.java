@@ -57,9 +57,10 @@ public class SevenZipNativeBindings implements ArchiveExtractor, Closeable {
 
 	@Override
 	public List<FileInfo> listFiles() throws SevenZipException {
-		List<FileInfo> paths = new ArrayList<FileInfo>();
+		int count = inArchive.getNumberOfItems();
+		List<FileInfo> paths = new ArrayList<FileInfo>(count);
 
-		for (int i = 0; i < inArchive.getNumberOfItems(); i++) {
+		for (int i = 0; i < count; i++) {
 			boolean isFolder = (Boolean) inArchive.getProperty(i, PropID.IS_FOLDER);
 			if (!isFolder) {
 				String path = (String) inArchive.getProperty(i, PropID.PATH);
@@ -147,6 +147,9 @@ public class ArgumentBean {
 	@Option(name = "--log-lock", usage = "Lock log file", metaVar = "[yes, no]", handler = ExplicitBooleanOptionHandler.class)
 	public boolean logLock = true;
 
+	@Option(name = "-cache-stats", usage = "Print cache statistics on exit")
+	public boolean cacheStatistics = false;
+
 	@Option(name = "-clear-cache", usage = "Clear cached and temporary data")
 	public boolean clearCache = false;
 
@@ -189,6 +192,10 @@ public class ArgumentBean {
 		return clearPrefs;
 	}
 
+	public boolean printCacheStatistics() {
+		return cacheStatistics;
+	}
+
 	public List<File> getFiles(boolean resolveFolders) throws Exception {
 		if (arguments == null || arguments.isEmpty()) {
 			return emptyList();
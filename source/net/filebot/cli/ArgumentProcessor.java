@@ -20,6 +20,7 @@ import javax.script.SimpleBindings;
 import org.apache.commons.io.IOUtils;
 
 import net.filebot.LicenseError;
+import net.filebot.media.MediaDetection;
 
 public class ArgumentProcessor {
 
@@ -28,6 +29,11 @@ public class ArgumentProcessor {
 			// interactive mode enables basic selection and confirmation dialogs in the CLI
 			CmdlineInterface cli = args.isInteractive() ? new CmdlineOperationsTextUI() : new CmdlineOperations();
 
+			// start loading data files and indexes in the background if we are going to need them
+			if (args.script != null || (!args.list && (args.rename || args.getSubtitles))) {
+				MediaDetection.preloadCachedResources();
+			}
+
 			// execute simple command
 			if (args.script == null) {
 				return runCommand(cli, args);
@@ -35,6 +35,11 @@ import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -85,6 +90,9 @@ import net.filebot.web.VideoHashSubtitleService;
 
 public class CmdlineOperations implements CmdlineInterface {
 
+	// number of concurrent subtitle downloads (request rates are further limited by each subtitle service)
+	private static final int SUBTITLE_DOWNLOAD_THREAD_POOL_SIZE = 4;
+
 	@Override
 	public List<File> rename(Collection<File> files, RenameAction action, ConflictAction conflict, File output, ExpressionFileFormat format, Datasource db, String query, SortOrder order, ExpressionFilter filter, Locale locale, boolean strict, ExecCommand exec) throws Exception {
 		// movie mode
@@ -450,6 +458,9 @@ public class CmdlineOperations implements CmdlineInterface {
 		// map movies to (possibly multiple) files (in natural order)
 		Map<Movie, SortedSet<File>> filesByMovie = new HashMap<Movie, SortedSet<File>>();
 
+		// auto-detect all remaining movies at once (files with the same name terms will share the same queries)
+		Map<File, List<Movie>> movieOptions = detectMoviesWithYear(movieMatchFiles.stream().filter(f -> movieByFile.get(f) == null).collect(toList()), service, locale, strict);
+
 		// map all files by movie
 		for (File file : movieMatchFiles) {
 			Movie movie = movieByFile.get(file);
@@ -457,7 +468,7 @@ public class CmdlineOperations implements CmdlineInterface {
 			// unknown hash, try via imdb id from nfo file
 			if (movie == null) {
 				log.fine(format("Auto-detect movie from context: [%s]", file));
-				List<Movie> options = detectMovieWithYear(file, service, locale, strict);
+				List<Movie> options = movieOptions.get(file);
 
 				// ignore files that cannot yield any acceptable matches (e.g. movie files without year in strict mode)
 				if (options == null) {
@@ -862,26 +873,51 @@ public class CmdlineOperations implements CmdlineInterface {
 
 		Map<File, File> downloads = new LinkedHashMap<File, File>();
 
-		// fetch subtitle
-		subtitles.forEach((movie, options) -> {
-			if (options.size() > 0) {
-				SubtitleDescriptor subtitle = options.get(0);
+		// fetch subtitles concurrently and then decode, convert and write subtitles on a separate worker pool
+		ExecutorService downloadThreadPool = Executors.newFixedThreadPool(SUBTITLE_DOWNLOAD_THREAD_POOL_SIZE);
+		ExecutorService workerThreadPool = Executors.newFixedThreadPool(getPreferredThreadPoolSize());
+
+		try {
+			// destination files that have already been claimed by another subtitle of this batch
+			Set<File> destinations = ConcurrentHashMap.newKeySet();
+
+			Map<File, Future<Future<File>>> tasks = new LinkedHashMap<File, Future<Future<File>>>();
+
+			subtitles.forEach((movie, options) -> {
+				if (options.size() > 0) {
+					SubtitleDescriptor subtitle = options.get(0);
+					tasks.put(movie, downloadThreadPool.submit(() -> {
+						// fetch subtitle archive
+						log.config(format("Fetching [%s] subtitles [%s] from [%s]", subtitle.getLanguageName(), subtitle.getPath(), service.getName()));
+						ByteBuffer data = subtitle.fetch();
+
+						// decode, convert and write subtitle file as soon as the data is available
+						return workerThreadPool.submit(() -> writeSubtitle(decodeSubtitle(subtitle, data), subtitle, movie, outputFormat, outputEncoding, naming, destinations));
+					}));
+				}
+			});
+
+			tasks.forEach((movie, task) -> {
 				try {
-					downloads.put(movie, downloadSubtitle(service, subtitle, movie, outputFormat, outputEncoding, naming));
-				} catch (Exception e) {
-					log.warning(format("Failed to download %s: %s", subtitle, e));
+					File destination = task.get().get();
+					if (destination != null) {
+						downloads.put(movie, destination);
+					}
+				} catch (ExecutionException e) {
+					log.warning(format("Failed to download %s: %s", subtitles.get(movie).get(0), e.getCause()));
+				} catch (InterruptedException e) {
+					throw new CmdlineException("Subtitle download has been interrupted", e);
 				}
-			}
-		});
+			});
+		} finally {
+			downloadThreadPool.shutdownNow();
+			workerThreadPool.shutdownNow();
+		}
 
 		return downloads;
 	}
 
-	private File downloadSubtitle(Datasource service, SubtitleDescriptor descriptor, File movieFile, SubtitleFormat outputFormat, Charset outputEncoding, SubtitleNaming naming) throws Exception {
-		// fetch subtitle archive
-		log.config(format("Fetching [%s] subtitles [%s] from [%s]", descriptor.getLanguageName(), descriptor.getPath(), service.getName()));
-		MemoryFile subtitleFile = fetchSubtitle(descriptor);
-
+	private File writeSubtitle(MemoryFile subtitleFile, SubtitleDescriptor descriptor, File movieFile, SubtitleFormat outputFormat, Charset outputEncoding, SubtitleNaming naming, Set<File> destinations) throws Exception {
 		// subtitle filename is based on movie filename
 		String extension = getExtension(subtitleFile.getName());
 		ByteBuffer data = subtitleFile.getData();
@@ -902,6 +938,13 @@ public class CmdlineOperations implements CmdlineInterface {
 		}
 
 		File destination = new File(movieFile.getParentFile(), naming.format(movieFile, descriptor, extension));
+
+		// make sure that each destination file is written only once
+		if (!destinations.add(destination)) {
+			log.warning(format("Skip [%s] because [%s] is already used for another file", subtitleFile.getName(), destination));
+			return null;
+		}
+
 		log.info(format("Writing [%s] to [%s]", subtitleFile.getName(), destination.getName()));
 
 		writeFile(data, destination);
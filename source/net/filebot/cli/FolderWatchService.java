@@ -8,17 +8,20 @@ import static net.filebot.util.FileUtilities.*;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
 import java.nio.file.Path;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -29,10 +32,15 @@ import net.filebot.util.Timer;
 
 public abstract class FolderWatchService implements Closeable {
 
-	private final Collection<File> commitSet = new HashSet<File>();
+	// files that have been created or modified and the file state at the time of the last event
+	private final Map<File, FileState> commitSet = new HashMap<File, FileState>();
 
 	private final ExecutorService processor = Executors.newSingleThreadExecutor();
-	private final ExecutorService watchers = Executors.newCachedThreadPool(new DefaultThreadFactory("FolderWatchService"));
+	private final ExecutorService watcher = Executors.newSingleThreadExecutor(new DefaultThreadFactory("FolderWatchService"));
+
+	// all folders are registered with the same watch service and processed by the same thread
+	private final Map<WatchKey, Path> watchKeys = new ConcurrentHashMap<WatchKey, Path>();
+	private WatchService watchService;
 
 	private long commitDelay = 500; // 0.5 s
 	private boolean commitPerFolder = true;
@@ -70,14 +78,33 @@ public abstract class FolderWatchService implements Closeable {
 
 	public synchronized void commit() {
 		final SortedSet<File> files = new TreeSet<File>();
+		boolean pending = false;
 
 		synchronized (commitSet) {
-			for (File it : commitSet) {
-				if (it.isFile()) {
-					files.add(it);
+			for (Iterator<Entry<File, FileState>> it = commitSet.entrySet().iterator(); it.hasNext();) {
+				Entry<File, FileState> entry = it.next();
+				File file = entry.getKey();
+
+				if (!file.isFile()) {
+					it.remove();
+					continue;
+				}
+
+				// only commit files that have not changed since the last event (i.e. are not still being written)
+				FileState state = new FileState(file);
+				if (state.equals(entry.getValue())) {
+					files.add(file);
+					it.remove();
+				} else {
+					entry.setValue(state);
+					pending = true;
 				}
 			}
-			commitSet.clear();
+		}
+
+		// check again later
+		if (pending) {
+			resetCommitTimer();
 		}
 
 		if (files.isEmpty()) {
@@ -103,142 +130,147 @@ public abstract class FolderWatchService implements Closeable {
 	public abstract void processCommitSet(File[] files, File dir);
 
 	public synchronized void watchFolder(File folder) throws IOException {
+		if (!folder.isDirectory()) {
+			throw new IllegalArgumentException("Must be a folder: " + folder);
+		}
+
+		if (watchService == null) {
+			watchService = FileSystems.getDefault().newWatchService();
+			watcher.submit(this::watch);
+		}
+
 		if (!watchTree) {
-			startWatch(folder);
+			register(folder);
 			return;
 		}
 
-		watchFolderTree(folder);
+		registerTree(folder);
 	}
 
-	private void watchFolderTree(File root) throws IOException {
+	private void registerTree(File root) throws IOException {
 		for (File it : getChildren(root, FOLDERS)) {
-			watchFolderTree(it);
+			registerTree(it);
 		}
 
-		startWatch(root);
+		register(root);
 	}
 
-	private synchronized void startWatch(File node) throws IOException {
-		if (!node.isDirectory()) {
-			throw new IllegalArgumentException("Must be a folder: " + node);
-		}
+	private void register(File folder) throws IOException {
+		Path path = folder.toPath();
+		watchKeys.put(path.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), path);
+	}
 
-		watchers.submit(new FolderWatcher(node) {
+	private void watch() {
+		try {
+			while (true) {
+				WatchKey key = watchService.take();
+				Path folder = watchKeys.get(key);
 
-			@Override
-			protected void processEvents(List<WatchEvent<?>> events) {
-				synchronized (commitSet) {
+				if (folder != null) {
+					synchronized (commitSet) {
+						processEvents(folder, key);
+					}
 					resetCommitTimer();
-					super.processEvents(events);
+				}
+
+				// folder has been deleted or is no longer accessible
+				if (!key.reset()) {
+					watchKeys.remove(key);
 				}
 			}
+		} catch (InterruptedException | ClosedWatchServiceException e) {
+			// ignore, part of an orderly shutdown
+		} catch (Exception e) {
+			debug.log(Level.WARNING, e.getMessage(), e);
+		}
+	}
 
-			@Override
-			protected void created(File file) {
-				synchronized (commitSet) {
-					if (!file.isDirectory()) {
-						commitSet.add(file);
-						return;
-					}
+	private void processEvents(Path folder, WatchKey key) {
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind() == OVERFLOW) {
+				// events have been lost, so we need to rescan the whole folder
+				debug.fine(format("Watch event overflow: rescan %s", folder));
+				created(folder.toFile(), true);
+				continue;
+			}
 
-					// start watching newly created folder
-					if (watchTree) {
-						try {
-							commitSet.addAll(listFiles(file, FILES));
-							watchFolder(file);
-						} catch (IOException e) {
-							debug.log(Level.SEVERE, e.getMessage(), e);
-						}
-					}
-				}
+			File file = folder.resolve(event.context().toString()).toFile();
+
+			if (event.kind() == ENTRY_CREATE) {
+				created(file, false);
+			} else if (event.kind() == ENTRY_MODIFY) {
+				modified(file);
+			} else if (event.kind() == ENTRY_DELETE) {
+				deleted(file);
 			}
+		}
+	}
 
-			@Override
-			protected void modified(File file) {
-				synchronized (commitSet) {
-					if (!file.isDirectory()) {
-						commitSet.add(file);
-					}
+	private void created(File file, boolean rescan) {
+		if (!file.isDirectory()) {
+			commitSet.put(file, new FileState(file));
+			return;
+		}
+
+		// start watching newly created folder
+		if (watchTree || rescan) {
+			try {
+				for (File it : watchTree ? listFiles(file, FILES) : getChildren(file, FILES)) {
+					commitSet.put(it, new FileState(it));
 				}
-			}
 
-			@Override
-			protected void deleted(File file) {
-				synchronized (commitSet) {
-					commitSet.remove(file);
+				if (watchTree) {
+					registerTree(file);
 				}
+			} catch (IOException e) {
+				debug.log(Level.SEVERE, e.getMessage(), e);
 			}
-		});
+		}
+	}
+
+	private void modified(File file) {
+		if (!file.isDirectory()) {
+			commitSet.put(file, new FileState(file));
+		}
+	}
+
+	private void deleted(File file) {
+		commitSet.remove(file);
 	}
 
 	@Override
 	public synchronized void close() throws IOException {
 		commitTimer.cancel();
 		processor.shutdownNow();
-		watchers.shutdownNow();
-	}
-
-	private abstract static class FolderWatcher implements Runnable, Closeable {
+		watcher.shutdownNow();
 
-		private final Path node;
-		private final WatchService watchService;
-
-		public FolderWatcher(File node) throws IOException {
-			this.node = node.toPath();
-			this.watchService = this.node.getFileSystem().newWatchService();
-			this.node.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+		if (watchService != null) {
+			watchService.close();
 		}
+	}
 
-		@Override
-		public void run() {
-			try {
-				watch();
-			} catch (InterruptedException e) {
-				// ignore, part of an orderly shutdown
-			} catch (Exception e) {
-				debug.log(Level.WARNING, e.getMessage(), e);
-			}
-		}
+	private static class FileState {
 
-		public void watch() throws IOException, InterruptedException {
-			try {
-				boolean valid = true;
-				while (valid) {
-					WatchKey key = watchService.take();
-					processEvents(key.pollEvents());
-					valid = key.reset();
-				}
-			} finally {
-				this.close();
-			}
-		}
+		private final long length;
+		private final long lastModified;
 
-		public File getAbsoluteFile(WatchEvent event) {
-			return node.resolve(event.context().toString()).toFile();
+		public FileState(File file) {
+			this.length = file.length();
+			this.lastModified = file.lastModified();
 		}
 
-		protected void processEvents(List<WatchEvent<?>> list) {
-			for (WatchEvent event : list) {
-				if (event.kind() == ENTRY_CREATE) {
-					created(getAbsoluteFile(event));
-				} else if (event.kind() == ENTRY_MODIFY) {
-					modified(getAbsoluteFile(event));
-				} else if (event.kind() == ENTRY_DELETE) {
-					deleted(getAbsoluteFile(event));
-				}
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof FileState) {
+				FileState other = (FileState) obj;
+				return length == other.length && lastModified == other.lastModified;
 			}
+			return false;
 		}
 
-		protected abstract void created(File file);
-
-		protected abstract void modified(File file);
-
-		protected abstract void deleted(File file);
-
 		@Override
-		public void close() throws IOException {
-			watchService.close();
+		public int hashCode() {
+			return Long.hashCode(length) ^ Long.hashCode(lastModified);
 		}
 	}
 
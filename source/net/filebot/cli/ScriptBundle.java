@@ -10,6 +10,7 @@ import java.io.InputStream;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.jar.JarEntry;
 import java.util.jar.JarInputStream;
@@ -22,6 +23,9 @@ public class ScriptBundle implements ScriptProvider {
 	private Resource<byte[]> bundle;
 	private Certificate certificate;
 
+	// script name => verified script content (or the reason why it can't be trusted)
+	private Map<String, Object> index;
+
 	public ScriptBundle(Resource<byte[]> bundle, InputStream certificate) throws CertificateException {
 		this.bundle = bundle.memoize();
 		this.certificate = CertificateFactory.getInstance("X.509").generateCertificate(certificate);
@@ -29,9 +33,31 @@ public class ScriptBundle implements ScriptProvider {
 
 	@Override
 	public String getScript(String name) throws Exception {
+		Object script = getIndex().get(name);
+
+		if (script instanceof SecurityException) {
+			throw (SecurityException) script;
+		}
+
+		if (script == null) {
+			// script does not exist
+			throw new FileNotFoundException("Script not found: " + name);
+		}
+
+		return (String) script;
+	}
+
+	protected synchronized Map<String, Object> getIndex() throws Exception {
+		if (index != null) {
+			return index;
+		}
+
+		// read and verify all jar entries only once
+		Map<String, Object> scripts = new HashMap<String, Object>();
+
 		try (JarInputStream jar = new JarInputStream(new ByteArrayInputStream(bundle.get()), true)) {
 			for (JarEntry f = jar.getNextJarEntry(); f != null; f = jar.getNextJarEntry()) {
-				if (f.isDirectory() || !f.getName().startsWith(name) || !f.getName().substring(name.length()).equals(".groovy"))
+				if (f.isDirectory() || !f.getName().endsWith(".groovy"))
 					continue;
 
 				// completely read and verify current jar entry
@@ -40,19 +66,20 @@ public class ScriptBundle implements ScriptProvider {
 
 				jar.closeEntry();
 
+				String name = f.getName().substring(0, f.getName().length() - ".groovy".length());
+
 				// file must be signed
 				Certificate[] certificates = f.getCertificates();
 
 				if (certificates == null || stream(f.getCertificates()).noneMatch(certificate::equals)) {
-					throw new SecurityException("BAD certificate: " + asList(certificates));
+					scripts.putIfAbsent(name, new SecurityException("BAD certificate: " + asList(certificates)));
+				} else {
+					scripts.putIfAbsent(name, UTF_8.decode(buffer.getByteBuffer()).toString());
 				}
-
-				return UTF_8.decode(buffer.getByteBuffer()).toString();
 			}
 		}
 
-		// script does not exist
-		throw new FileNotFoundException("Script not found: " + name);
+		return index = scripts;
 	}
 
 	public Map<String, String> getManifest() throws Exception {
@@ -1,5 +1,6 @@
 package net.filebot.cli;
 
+import static net.filebot.Settings.*;
 import static net.filebot.util.RegularExpressions.*;
 
 import java.util.Map;
@@ -12,15 +13,24 @@ import javax.script.ScriptException;
 
 import org.codehaus.groovy.control.CompilerConfiguration;
 import org.codehaus.groovy.control.customizers.ImportCustomizer;
+import org.codehaus.groovy.jsr223.GroovyCompiledScript;
 import org.codehaus.groovy.jsr223.GroovyScriptEngineImpl;
 import org.codehaus.groovy.runtime.StackTraceUtils;
 
 import groovy.lang.GroovyClassLoader;
+import net.filebot.ApplicationFolder;
+import net.filebot.util.ScriptClassCache;
+import net.filebot.util.SystemProperty;
 
 public class ScriptShell {
 
 	public static ScriptEngine createScriptEngine() {
-		ResourceBundle bundle = ResourceBundle.getBundle(ScriptShell.class.getName());
+		GroovyClassLoader classLoader = new GroovyClassLoader(Thread.currentThread().getContextClassLoader(), createCompilerConfiguration());
+		return new GroovyScriptEngineImpl(classLoader);
+	}
+
+	public static CompilerConfiguration createCompilerConfiguration() {
+		ResourceBundle bundle = getCompilerSettings();
 
 		CompilerConfiguration config = new CompilerConfiguration();
 		config.setScriptBaseClass(bundle.getString("scriptBaseClass"));
@@ -31,8 +41,24 @@ public class ScriptShell {
 		imports.addStaticStars(COMMA.split(bundle.getString("starStaticImport")));
 		config.addCompilationCustomizers(imports);
 
-		GroovyClassLoader classLoader = new GroovyClassLoader(Thread.currentThread().getContextClassLoader(), config);
-		return new GroovyScriptEngineImpl(classLoader);
+		return config;
+	}
+
+	private static ResourceBundle getCompilerSettings() {
+		return ResourceBundle.getBundle(ScriptShell.class.getName());
+	}
+
+	private static ScriptClassCache scriptClassCache;
+
+	protected static synchronized ScriptClassCache getScriptClassCache() {
+		if (scriptClassCache == null) {
+			// compiled scripts depend on the compiler settings and the script base class of the current application revision
+			ResourceBundle bundle = getCompilerSettings();
+			String fingerprint = String.join("\n", "r" + getApplicationRevisionNumber(), bundle.getString("scriptBaseClass"), bundle.getString("starImport"), bundle.getString("starStaticImport"));
+
+			scriptClassCache = new ScriptClassCache(ApplicationFolder.Cache.resolve("scripts"), createCompilerConfiguration(), fingerprint);
+		}
+		return scriptClassCache;
 	}
 
 	public static final String ARGV_BINDING_NAME = "args";
@@ -40,11 +66,11 @@ public class ScriptShell {
 	public static final String SHELL_CLI_BINDING_NAME = "__cli";
 	public static final String SHELL_ARGS_BINDING_NAME = "__args";
 
-	private final ScriptEngine engine;
+	private final GroovyScriptEngineImpl engine;
 	private final ScriptProvider scriptProvider;
 
 	public ScriptShell(ScriptProvider scriptProvider, CmdlineInterface cli, Map<String, ?> globals) throws ScriptException {
-		this.engine = createScriptEngine();
+		this.engine = (GroovyScriptEngineImpl) createScriptEngine();
 		this.scriptProvider = scriptProvider;
 
 		// setup bindings
@@ -63,15 +89,36 @@ public class ScriptShell {
 		try {
 			return engine.eval(script, bindings);
 		} catch (Throwable e) {
-			while (e.getClass() == ScriptException.class && e.getCause() != null) {
-				e = e.getCause();
-			}
-			throw StackTraceUtils.deepSanitize(e); // make Groovy stacktrace human-readable
+			throw sanitize(e);
 		}
 	}
 
+	public Object evaluateCompiled(String script, Bindings bindings) throws Throwable {
+		try {
+			Class<?> scriptClass = getScriptClassCache().getScriptClass(script, engine.getClassLoader());
+			return new GroovyCompiledScript(engine, scriptClass).eval(bindings);
+		} catch (Throwable e) {
+			throw sanitize(e);
+		}
+	}
+
+	private Throwable sanitize(Throwable e) {
+		while (e.getClass() == ScriptException.class && e.getCause() != null) {
+			e = e.getCause();
+		}
+		return StackTraceUtils.deepSanitize(e); // make Groovy stacktrace human-readable
+	}
+
 	public Object runScript(String name, Bindings bindings) throws Throwable {
-		return evaluate(scriptProvider.getScript(name), bindings);
+		String script = scriptProvider.getScript(name);
+
+		// load precompiled script classes if possible
+		if (useScriptClassCache.get()) {
+			return evaluateCompiled(script, bindings);
+		}
+		return evaluate(script, bindings);
 	}
 
+	private static final SystemProperty<Boolean> useScriptClassCache = SystemProperty.of("net.filebot.script.cache", Boolean::parseBoolean, true);
+
 }
@@ -1,8 +1,15 @@
 package net.filebot.format;
 
+import static java.util.stream.Collectors.*;
+import static net.filebot.Logging.*;
+import static net.filebot.Settings.*;
 import static net.filebot.util.ExceptionUtilities.*;
 
+import java.io.File;
+import java.security.AccessControlContext;
+import java.security.AccessControlException;
 import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.text.FieldPosition;
 import java.text.Format;
 import java.text.ParsePosition;
@@ -10,6 +17,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 
 import javax.lang.model.SourceVersion;
@@ -21,14 +29,26 @@ import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 import javax.script.SimpleScriptContext;
 
+import org.codehaus.groovy.ast.ClassNode;
+import org.codehaus.groovy.ast.MethodNode;
+import org.codehaus.groovy.ast.ModuleNode;
+import org.codehaus.groovy.control.CompilationUnit;
 import org.codehaus.groovy.control.CompilerConfiguration;
 import org.codehaus.groovy.control.MultipleCompilationErrorsException;
+import org.codehaus.groovy.control.Phases;
 import org.codehaus.groovy.control.customizers.ImportCustomizer;
 import org.codehaus.groovy.jsr223.GroovyScriptEngineImpl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import groovy.lang.Binding;
 import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyRuntimeException;
 import groovy.lang.MissingPropertyException;
+import net.filebot.ApplicationFolder;
+import net.filebot.util.ScriptClassCache;
+import net.filebot.util.SystemProperty;
 
 public class ExpressionFormat extends Format {
 
@@ -36,11 +56,24 @@ public class ExpressionFormat extends Format {
 
 	private final Object[] compilation;
 
+	// all scriptlets compiled into a single class (or null if the format is evaluated scriptlet by scriptlet)
+	private final Class<? extends FormatScript> formatClass;
+
 	private SuppressedThrowables suppressed;
 
 	public ExpressionFormat(String expression) throws ScriptException {
 		this.expression = expression;
-		this.compilation = secure(compile(expression));
+
+		Object[] snippets = parse(expression);
+		Class<? extends FormatScript> formatClass = useAheadOfTimeCompilation.get() ? compileFormat(snippets) : null;
+
+		if (formatClass != null) {
+			this.compilation = snippets;
+			this.formatClass = formatClass;
+		} else {
+			this.compilation = secure(compile(snippets));
+			this.formatClass = null;
+		}
 	}
 
 	public String getExpression() {
@@ -48,7 +81,11 @@ public class ExpressionFormat extends Format {
 	}
 
 	protected Object[] compile(String expression) throws ScriptException {
-		List<Object> compilation = new ArrayList<Object>();
+		return compile(parse(expression));
+	}
+
+	protected Object[] parse(String expression) throws ScriptException {
+		List<Object> snippets = new ArrayList<Object>();
 
 		char open = '{';
 		char close = '}';
@@ -63,7 +100,7 @@ public class ExpressionFormat extends Format {
 			if (c == open) {
 				if (level == 0) {
 					if (token.length() > 0) {
-						compilation.add(token.toString());
+						snippets.add(token.toString());
 						token.setLength(0);
 					}
 				} else {
@@ -74,23 +111,8 @@ public class ExpressionFormat extends Format {
 			} else if (c == close) {
 				if (level == 1) {
 					if (token.length() > 0) {
-						try {
-							compilation.add(compileScriptlet(token.toString()));
-						} catch (ScriptException e) {
-							// try to extract syntax exception
-							ScriptException illegalSyntax = e;
-
-							try {
-								String message = findCause(e, MultipleCompilationErrorsException.class).getErrorCollector().getSyntaxError(0).getOriginalMessage();
-								illegalSyntax = new ScriptException("SyntaxError: " + message);
-							} catch (Exception ignore) {
-								// ignore, just use original exception
-							}
-
-							throw illegalSyntax;
-						} finally {
-							token.setLength(0);
-						}
+						snippets.add(new Scriptlet(token.toString()));
+						token.setLength(0);
 					}
 				} else {
 					token.append(c);
@@ -114,10 +136,38 @@ public class ExpressionFormat extends Format {
 
 		// append tail
 		if (token.length() > 0) {
-			compilation.add(token.toString());
+			snippets.add(token.toString());
+		}
+
+		return snippets.toArray();
+	}
+
+	protected Object[] compile(Object[] snippets) throws ScriptException {
+		Object[] compilation = new Object[snippets.length];
+
+		for (int i = 0; i < snippets.length; i++) {
+			if (snippets[i] instanceof Scriptlet) {
+				try {
+					compilation[i] = compileScriptlet(((Scriptlet) snippets[i]).getCode());
+				} catch (ScriptException e) {
+					// try to extract syntax exception
+					ScriptException illegalSyntax = e;
+
+					try {
+						String message = findCause(e, MultipleCompilationErrorsException.class).getErrorCollector().getSyntaxError(0).getOriginalMessage();
+						illegalSyntax = new ScriptException("SyntaxError: " + message);
+					} catch (Exception ignore) {
+						// ignore, just use original exception
+					}
+
+					throw illegalSyntax;
+				}
+			} else {
+				compilation[i] = snippets[i];
+			}
 		}
 
-		return compilation.toArray();
+		return compilation;
 	}
 
 	public Bindings getBindings(Object value) {
@@ -141,19 +191,14 @@ public class ExpressionFormat extends Format {
 		List<Throwable> suppressed = new ArrayList<Throwable>();
 
 		StringBuilder sb = new StringBuilder();
-		for (Object snippet : compilation) {
-			if (snippet instanceof CompiledScript) {
-				try {
-					CharSequence value = normalizeExpressionValue(((CompiledScript) snippet).eval(context));
-					if (value != null) {
-						sb.append(value);
-					}
-				} catch (ScriptException e) {
-					suppressed.add(normalizeExpressionException(e));
-				}
-			} else {
-				sb.append(snippet);
-			}
+		if (formatClass != null) {
+			// create and evaluate the precompiled format class with a single sandboxed call
+			AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+				evaluate(createFormatScript(context), context, sb, suppressed);
+				return null;
+			}, sandbox);
+		} else {
+			evaluate(null, context, sb, suppressed);
 		}
 
 		// require non-empty String value
@@ -169,6 +214,35 @@ public class ExpressionFormat extends Format {
 		return value;
 	}
 
+	private void evaluate(FormatScript script, ScriptContext context, StringBuilder sb, List<Throwable> suppressed) {
+		for (Object snippet : compilation) {
+			if (snippet instanceof String) {
+				sb.append(snippet);
+				continue;
+			}
+
+			try {
+				Object value = snippet instanceof Scriptlet ? ((Scriptlet) snippet).eval(script) : ((CompiledScript) snippet).eval(context);
+				CharSequence text = normalizeExpressionValue(value);
+				if (text != null) {
+					sb.append(text);
+				}
+			} catch (ScriptException e) {
+				suppressed.add(normalizeExpressionException(e));
+			}
+		}
+	}
+
+	private FormatScript createFormatScript(ScriptContext context) {
+		try {
+			FormatScript script = formatClass.getDeclaredConstructor().newInstance();
+			script.setBinding(new ContextBinding(context));
+			return script;
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
 	public SuppressedThrowables suppressed() {
 		return suppressed;
 	}
@@ -225,6 +299,11 @@ public class ExpressionFormat extends Format {
 	}
 
 	protected static Compilable createScriptEngine() {
+		GroovyClassLoader classLoader = new GroovyClassLoader(Thread.currentThread().getContextClassLoader(), createCompilerConfiguration());
+		return new GroovyScriptEngineImpl(classLoader);
+	}
+
+	protected static CompilerConfiguration createCompilerConfiguration() {
 		CompilerConfiguration config = new CompilerConfiguration();
 
 		// include default functions
@@ -232,8 +311,7 @@ public class ExpressionFormat extends Format {
 		imports.addStaticStars(ExpressionFormatFunctions.class.getName());
 		config.addCompilationCustomizers(imports);
 
-		GroovyClassLoader classLoader = new GroovyClassLoader(Thread.currentThread().getContextClassLoader(), config);
-		return new GroovyScriptEngineImpl(classLoader);
+		return config;
 	}
 
 	private static Compilable engine;
@@ -241,7 +319,7 @@ public class ExpressionFormat extends Format {
 
 	protected static CompiledScript compileScriptlet(String expression) throws ScriptException {
 		// simple expressions like {n} don't need to be interpreted by the script engine
-		if (SourceVersion.isIdentifier(expression) && !SourceVersion.isKeyword(expression)) {
+		if (isVariable(expression)) {
 			return new Variable(expression);
 		}
 
@@ -261,6 +339,203 @@ public class ExpressionFormat extends Format {
 		}
 	}
 
+	private static final SystemProperty<Boolean> useAheadOfTimeCompilation = SystemProperty.of("net.filebot.format.aot", Boolean::parseBoolean, false);
+
+	private static final AccessControlContext sandbox = SecureCompiledScript.getDefaultSandbox();
+
+	private static final Cache<String, Class<? extends FormatScript>> formatClassCache = Caffeine.newBuilder().maximumSize(100).build();
+
+	private static ScriptClassCache formatClassStore;
+
+	protected static synchronized ScriptClassCache getFormatClassStore() {
+		if (formatClassStore == null) {
+			setFormatClassFolder(ApplicationFolder.Cache.resolve("formats"));
+		}
+		return formatClassStore;
+	}
+
+	/**
+	 * Store precompiled format classes in the given folder (e.g. a temporary folder for testing), or reset to the default cache folder.
+	 */
+	protected static synchronized void setFormatClassFolder(File folder) {
+		if (folder == null) {
+			formatClassStore = null;
+		} else {
+			CompilerConfiguration config = createCompilerConfiguration();
+			config.setScriptBaseClass(FormatScript.class.getName());
+
+			formatClassStore = new ScriptClassCache(folder, config, "r" + getApplicationRevisionNumber());
+		}
+
+		// format classes loaded from the previous store must not be reused
+		formatClassCache.invalidateAll();
+	}
+
+	/**
+	 * Compile all scriptlets of the given format into a single script class, or return null if the format can only be evaluated scriptlet by scriptlet.
+	 */
+	protected static Class<? extends FormatScript> compileFormat(Object[] snippets) {
+		StringBuilder source = new StringBuilder();
+		StringBuilder dispatch = new StringBuilder();
+		List<String> methods = new ArrayList<String>();
+
+		for (int i = 0; i < snippets.length; i++) {
+			if (snippets[i] instanceof Scriptlet) {
+				Scriptlet scriptlet = (Scriptlet) snippets[i];
+
+				// simple expressions like {n} don't need to be interpreted by the script engine
+				if (isVariable(scriptlet.getCode())) {
+					snippets[i] = new Variable(scriptlet.getCode());
+					continue;
+				}
+
+				scriptlet.setIndex(i);
+				methods.add("__snippet" + i);
+				source.append("def __snippet").append(i).append("() {\n").append(scriptlet.getCode()).append("\n}\n");
+				dispatch.append("case ").append(i).append(": return __snippet").append(i).append("()\n");
+			}
+		}
+
+		// nothing to compile
+		if (dispatch.length() == 0) {
+			return null;
+		}
+
+		source.append("Object evaluate(int snippet) {\nswitch (snippet) {\n").append(dispatch).append("}\nthrow new IndexOutOfBoundsException(String.valueOf(snippet))\n}\n");
+
+		methods.add("evaluate");
+
+		String script = source.toString();
+		Class<? extends FormatScript> formatClass = formatClassCache.getIfPresent(script);
+
+		if (formatClass == null) {
+			try {
+				// scriptlet code must not escape its method body
+				if (!isFormatScript(script, methods)) {
+					debug.finest(() -> "Scriptlets can't be compiled into a single format class");
+					return null;
+				}
+
+				formatClass = getFormatClassStore().getScriptClass(script, Thread.currentThread().getContextClassLoader()).asSubclass(FormatScript.class);
+				formatClassCache.put(script, formatClass);
+			} catch (Throwable e) {
+				// some expressions (e.g. expressions that declare methods) can only be compiled on their own
+				debug.finest(e::toString);
+				return null;
+			}
+		}
+
+		return formatClass;
+	}
+
+	/**
+	 * Check that the generated script declares the given methods and nothing else (e.g. no script statements, fields or classes). Braces in strings or comments are not balanced by
+	 * {@link #parse(String)}, so a scriptlet may otherwise close its method body and declare its own members.
+	 */
+	protected static boolean isFormatScript(String script, List<String> methods) {
+		CompilationUnit unit = new CompilationUnit(createCompilerConfiguration());
+		unit.addSource("FormatScript", script);
+		unit.compile(Phases.CONVERSION);
+
+		for (ModuleNode module : unit.getAST().getModules()) {
+			if (!module.getStatementBlock().isEmpty() || module.getClasses().size() != 1) {
+				return false;
+			}
+
+			if (!module.getMethods().stream().map(MethodNode::getName).collect(toList()).equals(methods)) {
+				return false;
+			}
+
+			ClassNode scriptClass = module.getClasses().get(0);
+			if (!scriptClass.getFields().isEmpty() || !scriptClass.getObjectInitializerStatements().isEmpty()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	protected static boolean isVariable(String expression) {
+		return SourceVersion.isIdentifier(expression) && !SourceVersion.isKeyword(expression);
+	}
+
+	private static class Scriptlet {
+
+		private final String code;
+		private int index = -1;
+
+		public Scriptlet(String code) {
+			this.code = code;
+		}
+
+		public String getCode() {
+			return code;
+		}
+
+		public void setIndex(int index) {
+			this.index = index;
+		}
+
+		public Object eval(FormatScript script) throws ScriptException {
+			try {
+				Object value = script.evaluate(index);
+
+				if (value instanceof Callable<?>) {
+					return ((Callable<?>) value).call();
+				}
+
+				return value;
+			} catch (Exception e) {
+				AccessControlException accessException = findCause(e, AccessControlException.class);
+
+				// try to unwrap AccessControlException
+				if (accessException != null) {
+					throw new ExpressionException(accessException);
+				}
+
+				throw new ScriptException(e);
+			} catch (Throwable t) {
+				throw new ScriptException(new ExecutionException(t));
+			}
+		}
+
+		@Override
+		public String toString() {
+			return code;
+		}
+
+	}
+
+	private static class ContextBinding extends Binding {
+
+		private final ScriptContext context;
+
+		public ContextBinding(ScriptContext context) {
+			this.context = context;
+		}
+
+		@Override
+		public Object getVariable(String name) {
+			int scope = context.getAttributesScope(name);
+			if (scope == -1) {
+				throw new MissingPropertyException(name, getClass());
+			}
+			return context.getAttribute(name, scope);
+		}
+
+		@Override
+		public void setVariable(String name, Object value) {
+			int scope = context.getAttributesScope(name);
+			context.setAttribute(name, value, scope == -1 ? ScriptContext.ENGINE_SCOPE : scope);
+		}
+
+		@Override
+		public boolean hasVariable(String name) {
+			return context.getAttributesScope(name) != -1;
+		}
+
+	}
+
 	private static class Variable extends CompiledScript {
 
 		private String name;
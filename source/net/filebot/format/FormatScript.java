@@ -0,0 +1,13 @@
+package net.filebot.format;
+
+import groovy.lang.Script;
+
+/**
+ * Base class for expression formats that have been compiled ahead-of-time into a single script class. Each scriptlet is compiled into its own method, and the generated class dispatches to
+ * these methods by index.
+ */
+public abstract class FormatScript extends Script {
+
+	public abstract Object evaluate(int snippet) throws Exception;
+
+}
@@ -950,7 +950,7 @@ public class MediaBindingBean {
 		if (infoObject instanceof PhotoFile) {
 			return ((PhotoFile) infoObject).getMetadata();
 		}
-		return new ImageMetadata((File) infoObject);
+		return ImageMetadata.read((File) infoObject);
 	}
 
 	@Define("pi")
@@ -1279,7 +1279,15 @@ public class MediaBindingBean {
 	}
 
 	private List<AssociativeScriptObject> createMediaInfoBindings(StreamKind kind) {
-		return getMediaInfo().snapshot().get(kind).stream().map(m -> new AssociativeScriptObject(m, this::undefined)).collect(toList());
+		// use shared media info snapshot for the inferred media file (e.g. actual movie file instead of subtitle file)
+		Map<StreamKind, List<Map<String, String>>> snapshot;
+		try {
+			snapshot = MediaInfo.snapshot(getInferredMediaFile());
+		} catch (IOException e) {
+			throw new MediaInfoException(e.getMessage());
+		}
+
+		return snapshot.get(kind).stream().map(m -> new AssociativeScriptObject(m, this::undefined)).collect(toList());
 	}
 
 	private final Resource<String[]> mediaTitles = Resource.lazy(() -> {
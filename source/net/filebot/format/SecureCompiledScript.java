@@ -68,8 +68,12 @@ public class SecureCompiledScript extends CompiledScript {
 	private final CompiledScript compiledScript;
 	private final AccessControlContext sandbox;
 
+	public static AccessControlContext getDefaultSandbox() {
+		return new AccessControlContext(new ProtectionDomain[] { new ProtectionDomain(null, getDefaultSandboxPermissions()) });
+	}
+
 	public SecureCompiledScript(CompiledScript compiledScript) {
-		this(compiledScript, new AccessControlContext(new ProtectionDomain[] { new ProtectionDomain(null, getDefaultSandboxPermissions()) }));
+		this(compiledScript, getDefaultSandbox());
 	}
 
 	public SecureCompiledScript(CompiledScript compiledScript, AccessControlContext sandbox) {
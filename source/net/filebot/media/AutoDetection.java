@@ -25,13 +25,17 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.logging.Level;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
+import net.filebot.Cache;
+import net.filebot.CacheType;
 import net.filebot.similarity.NameSimilarityMetric;
 import net.filebot.util.FastFile;
+import net.filebot.util.SystemProperty;
 import net.filebot.web.Episode;
 import net.filebot.web.Movie;
 
@@ -40,6 +44,12 @@ public class AutoDetection {
 	private File[] files;
 	private Locale locale;
 
+	// video files for each folder
+	private Map<File, List<File>> videoFiles;
+
+	// sibling video files signature for each folder
+	private Map<File, String> folderSignatures = new ConcurrentHashMap<File, String>();
+
 	public AutoDetection(Collection<File> root, boolean resolve, Locale locale) {
 		this.locale = locale;
 
@@ -50,6 +60,8 @@ public class AutoDetection {
 		if (resolve) {
 			this.files = resolve(stream(files), getSystemFilesFilter()).toArray(File[]::new);
 		}
+
+		this.videoFiles = stream(files).filter(VIDEO_FILES::accept).filter(f -> f.getParentFile() != null).collect(groupingBy(File::getParentFile, LinkedHashMap::new, toList()));
 	}
 
 	protected Stream<File> resolve(Stream<File> root, FileFilter excludes) {
@@ -196,6 +208,39 @@ public class AutoDetection {
 	}
 
 	private Group detectGroup(File f) throws Exception {
+		if (!useDetectionCache.get()) {
+			return detect(f);
+		}
+
+		// reuse previous results as long as the file, its sibling video files and the data files have not changed
+		String key = String.join("\t", f.getPath(), String.valueOf(f.length()), String.valueOf(f.lastModified()), getFolderSignature(f.getParentFile()), locale.toLanguageTag(), releaseInfo.getDataVersion());
+		Object group = getDetectionCache().computeIfAbsent(key, it -> detect(f));
+
+		return group instanceof Group ? (Group) group : detect(f);
+	}
+
+	private String getFolderSignature(File parent) {
+		if (parent == null) {
+			return "";
+		}
+
+		// detection depends on the video files in the same folder and on the video files in the same folder that are part of the current selection
+		return folderSignatures.computeIfAbsent(parent, folder -> {
+			StringBuilder signature = new StringBuilder();
+			getChildren(folder, VIDEO_FILES).stream().map(File::getName).sorted().forEach(n -> signature.append('/').append(n));
+			getVideoFiles(folder).stream().map(File::getName).sorted().forEach(n -> signature.append('\t').append(n));
+			return md5(signature.toString());
+		});
+	}
+
+	private static final SystemProperty<Boolean> useDetectionCache = SystemProperty.of("net.filebot.AutoDetection.cache", Boolean::parseBoolean, true);
+
+	private static Cache getDetectionCache() {
+		// online search results may change over time
+		return Cache.getCache("autodetection", CacheType.Weekly);
+	}
+
+	private Group detect(File f) throws Exception {
 		Group group = new Group();
 
 		if (isMusic(f)) {
@@ -247,8 +292,7 @@ public class AutoDetection {
 	}
 
 	private List<File> getVideoFiles(File parent) {
-		return stream(files).filter(it -> parent.equals(it.getParentFile())).filter(VIDEO_FILES::accept)
-				.collect(toList());
+		return parent == null ? emptyList() : videoFiles.getOrDefault(parent, emptyList());
 	}
 
 	private static final Pattern YEAR = compile("\\D(?:19|20)\\d{2}\\D");
@@ -1,12 +1,15 @@
 package net.filebot.media;
 
 import static java.util.Arrays.*;
+import static java.util.Collections.*;
 import static net.filebot.Logging.*;
 import static net.filebot.Settings.*;
 import static net.filebot.util.JsonUtilities.*;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileFilter;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -16,20 +19,27 @@ import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
+import com.drew.imaging.FileType;
+import com.drew.imaging.FileTypeDetector;
 import com.drew.imaging.ImageMetadataReader;
 import com.drew.imaging.ImageProcessingException;
+import com.drew.imaging.jpeg.JpegMetadataReader;
 import com.drew.lang.GeoLocation;
 import com.drew.metadata.Directory;
 import com.drew.metadata.Metadata;
 import com.drew.metadata.Tag;
 import com.drew.metadata.exif.ExifIFD0Directory;
+import com.drew.metadata.exif.ExifReader;
 import com.drew.metadata.exif.ExifSubIFDDirectory;
 import com.drew.metadata.exif.GpsDirectory;
 import com.drew.metadata.file.FileSystemDirectory;
+import com.drew.metadata.file.FileSystemMetadataReader;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import net.filebot.Cache;
 import net.filebot.CacheType;
@@ -37,14 +47,64 @@ import net.filebot.util.FileUtilities.ExtensionFileFilter;
 
 public class ImageMetadata {
 
-	private final Metadata metadata;
+	private final File file;
+	private final long length;
+	private final long lastModified;
+
+	private Metadata metadata;
+	private boolean complete;
 
 	public ImageMetadata(File file) throws ImageProcessingException, IOException {
+		this(file, false);
+	}
+
+	protected ImageMetadata(File file, boolean headerOnly) throws ImageProcessingException, IOException {
 		if (!SUPPORTED_FILE_TYPES.accept(file)) {
 			throw new IllegalArgumentException("Image type not supported: " + file);
 		}
 
-		metadata = ImageMetadataReader.readMetadata(file);
+		this.file = file;
+		this.length = file.length();
+		this.lastModified = file.lastModified();
+
+		if (headerOnly) {
+			this.metadata = readExifHeader(file);
+		}
+
+		if (metadata == null) {
+			this.metadata = ImageMetadataReader.readMetadata(file);
+			this.complete = true;
+		}
+	}
+
+	protected Metadata readExifHeader(File file) throws ImageProcessingException, IOException {
+		try (BufferedInputStream in = new BufferedInputStream(new FileInputStream(file), EXIF_HEADER_BUFFER_SIZE)) {
+			// only JPEG files can be read segment by segment, all other image types require the full metadata reader
+			if (FileTypeDetector.detectFileType(in) != FileType.Jpeg) {
+				return null;
+			}
+
+			// read only the APP1 segments up until the start of the image data
+			Metadata exif = JpegMetadataReader.readMetadata(in, singleton(new ExifReader()));
+			new FileSystemMetadataReader().read(file, exif);
+			return exif;
+		}
+	}
+
+	protected synchronized Metadata getCompleteMetadata() throws ImageProcessingException, IOException {
+		if (!complete) {
+			metadata = ImageMetadataReader.readMetadata(file);
+			complete = true;
+		}
+		return metadata;
+	}
+
+	protected synchronized Metadata getMetadata() {
+		return metadata;
+	}
+
+	protected boolean isModified() {
+		return length != file.length() || lastModified != file.lastModified();
 	}
 
 	public Map<String, String> snapshot() {
@@ -58,6 +118,14 @@ public class ImageMetadata {
 	public Map<String, String> snapshot(Function<Tag, String> key, Predicate<Directory> accept) {
 		Map<String, String> values = new LinkedHashMap<String, String>();
 
+		Metadata metadata;
+		try {
+			metadata = getCompleteMetadata();
+		} catch (Exception e) {
+			debug.warning(format("Failed to read image metadata: %s [%s]", e, file));
+			metadata = getMetadata();
+		}
+
 		for (Directory directory : metadata.getDirectories()) {
 			if (accept.test(directory)) {
 				for (Tag tag : directory.getTags()) {
@@ -150,13 +218,33 @@ public class ImageMetadata {
 
 	public <T> Optional<T> extract(Function<Metadata, T> extract) {
 		try {
-			return Optional.ofNullable(extract.apply(metadata));
+			return Optional.ofNullable(extract.apply(getMetadata()));
 		} catch (Exception e) {
 			debug.finest(format("Failed to extract image metadata: %s", e));
 		}
 		return Optional.empty();
 	}
 
+	/**
+	 * Get image metadata for the given file. Only the Exif header is read upfront for JPEG files, and all other metadata is read on demand. Metadata is cached and reused as long as the file has
+	 * not been modified.
+	 */
+	public static ImageMetadata read(File file) throws ImageProcessingException, IOException {
+		ImageMetadata metadata = metadataCache.getIfPresent(file);
+		if (metadata != null && !metadata.isModified()) {
+			return metadata;
+		}
+
+		metadata = new ImageMetadata(file, true);
+		metadataCache.put(file, metadata);
+		return metadata;
+	}
+
+	private static final com.github.benmanes.caffeine.cache.Cache<File, ImageMetadata> metadataCache = Caffeine.newBuilder().maximumSize(1000).expireAfterAccess(10, TimeUnit.MINUTES).build();
+
+	// Exif data is limited to a single 64 KB APP1 segment
+	private static final int EXIF_HEADER_BUFFER_SIZE = 64 * 1024;
+
 	public static final FileFilter SUPPORTED_FILE_TYPES = new ExtensionFileFilter("jpg", "jpeg", "png", "webp", "gif", "ico", "bmp", "tif", "tiff", "psd", "pcx", "raw", "crw", "cr2", "nef", "orf", "raf", "rw2", "rwl", "srw", "arw", "dng", "x3f", "mov", "mp4", "m4v", "3g2", "3gp", "3gp");
 
 }
@@ -0,0 +1,233 @@
+package net.filebot.media;
+
+import static java.util.Arrays.*;
+import static java.util.stream.Collectors.*;
+import static net.filebot.Logging.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Accelerates large word list patterns (e.g. release group and query blacklist patterns) that are built from thousands of {@code |} alternatives.
+ * <p>
+ * Terms are indexed in a case-folded trie, so that only positions at which some term actually occurs at a word boundary are considered. The original pattern is then applied at each of these
+ * candidate positions, so that replacement results are always identical to {@code pattern.matcher(s).replaceAll("")}. Terms that are regular expressions are indexed by their literal prefix, or
+ * matched via a secondary pattern if they have no usable literal prefix.
+ */
+public class KeywordMatcher {
+
+	private static final String META_CHARACTERS = "\\^$.|?*+()[]{}";
+	private static final String QUANTIFIERS = "?*+{";
+
+	private final Pattern pattern;
+
+	private final Node index;
+	private final Pattern unindexed;
+
+	public KeywordMatcher(Pattern pattern) {
+		this.pattern = pattern;
+		this.index = null;
+		this.unindexed = null;
+	}
+
+	public KeywordMatcher(Pattern pattern, String... terms) {
+		Node index = new Node();
+		List<String> unindexed = new ArrayList<String>();
+
+		for (String term : terms == null ? new String[0] : terms) {
+			int prefix = getLiteralPrefixLength(term);
+			if (prefix > 0) {
+				index.put(term, prefix, prefix == term.length());
+			} else {
+				unindexed.add(term);
+			}
+		}
+
+		Pattern secondary = null;
+		if (unindexed.size() > 0) {
+			try {
+				secondary = Pattern.compile(unindexed.stream().collect(joining("|", "(?:", ")")), pattern.flags());
+			} catch (Exception e) {
+				debug.finest(format("Failed to index terms: %s", e));
+				index = null;
+			}
+		}
+
+		this.pattern = pattern;
+		this.index = index;
+		this.unindexed = secondary;
+	}
+
+	public Pattern pattern() {
+		return pattern;
+	}
+
+	public String replaceAll(String input) {
+		// default to plain regex matching if terms are not indexed
+		if (index == null) {
+			return pattern.matcher(input).replaceAll("");
+		}
+
+		Matcher matcher = pattern.matcher(input).useTransparentBounds(true).useAnchoringBounds(false);
+		Matcher secondary = unindexed == null ? null : unindexed.matcher(input);
+		int secondaryCandidate = -1;
+
+		StringBuilder output = null;
+		int append = 0;
+
+		for (int from = 0; from <= input.length();) {
+			int candidate = nextCandidate(input, from);
+
+			// next candidate position of terms without literal prefix
+			if (secondary != null) {
+				if (secondaryCandidate < from) {
+					secondaryCandidate = secondary.find(from) ? secondary.start() : Integer.MAX_VALUE;
+				}
+				if (secondaryCandidate < Integer.MAX_VALUE && (candidate < 0 || secondaryCandidate < candidate)) {
+					candidate = secondaryCandidate;
+				}
+			}
+
+			if (candidate < 0 || candidate == Integer.MAX_VALUE) {
+				break;
+			}
+
+			// apply original pattern at the candidate position
+			matcher.region(candidate, input.length());
+			if (!matcher.lookingAt()) {
+				from = candidate + 1;
+				continue;
+			}
+
+			// match always starts at the region start (lookbehind may corrupt Matcher.start() when using transparent bounds)
+			int end = matcher.end();
+
+			if (output == null) {
+				output = new StringBuilder(input.length());
+			}
+			output.append(input, append, candidate);
+			append = end;
+
+			from = end > candidate ? end : end + 1;
+		}
+
+		if (output == null) {
+			return input;
+		}
+
+		return output.append(input, append, input.length()).toString();
+	}
+
+	private int nextCandidate(CharSequence s, int from) {
+		for (int i = from; i < s.length(); i++) {
+			// all terms must start at a word boundary
+			if (i > 0 && isAlnum(s.charAt(i - 1))) {
+				continue;
+			}
+
+			if (index.matches(s, i)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	protected static int getLiteralPrefixLength(String term) {
+		// top-level alternatives may start with anything
+		if (term.indexOf('|') >= 0) {
+			return 0;
+		}
+
+		for (int i = 0; i < term.length(); i++) {
+			if (META_CHARACTERS.indexOf(term.charAt(i)) >= 0) {
+				return i;
+			}
+			// quantified characters are optional
+			if (i + 1 < term.length() && QUANTIFIERS.indexOf(term.charAt(i + 1)) >= 0) {
+				return i;
+			}
+		}
+		return term.length();
+	}
+
+	protected static boolean isAlnum(char c) {
+		// same as \p{Alnum} which only matches ASCII characters
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+	}
+
+	protected static char fold(char c) {
+		return Character.toLowerCase(c);
+	}
+
+	private static class Node {
+
+		private char[] keys = new char[0];
+		private Node[] children = new Node[0];
+
+		// a complete literal term ends here
+		private boolean word;
+
+		// the literal prefix of a pattern term ends here
+		private boolean prefix;
+
+		public void put(String term, int length, boolean literal) {
+			Node node = this;
+			for (int i = 0; i < length; i++) {
+				node = node.child(fold(term.charAt(i)));
+			}
+
+			if (literal) {
+				node.word = true;
+			} else {
+				node.prefix = true;
+			}
+		}
+
+		private Node child(char c) {
+			int i = binarySearch(keys, c);
+			if (i >= 0) {
+				return children[i];
+			}
+
+			// insert new child in sort order
+			int p = -i - 1;
+			char[] k = new char[keys.length + 1];
+			Node[] n = new Node[children.length + 1];
+			System.arraycopy(keys, 0, k, 0, p);
+			System.arraycopy(children, 0, n, 0, p);
+			System.arraycopy(keys, p, k, p + 1, keys.length - p);
+			System.arraycopy(children, p, n, p + 1, children.length - p);
+			k[p] = c;
+			n[p] = new Node();
+
+			keys = k;
+			children = n;
+			return n[p];
+		}
+
+		public boolean matches(CharSequence s, int start) {
+			Node node = this;
+			for (int i = start; node != null; i++) {
+				if (node.prefix) {
+					return true;
+				}
+
+				// complete terms must end at a word boundary
+				if (node.word && (i == s.length() || !isAlnum(s.charAt(i)))) {
+					return true;
+				}
+
+				if (i == s.length()) {
+					return false;
+				}
+
+				int k = binarySearch(node.keys, fold(s.charAt(i)));
+				node = k < 0 ? null : node.children[k];
+			}
+			return false;
+		}
+	}
+
+}
@@ -2,12 +2,20 @@ package net.filebot.media;
 
 import static java.util.stream.Collectors.*;
 import static net.filebot.Logging.*;
+import static net.filebot.Settings.*;
 import static net.filebot.util.FileUtilities.*;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.swing.Icon;
 
@@ -68,18 +76,34 @@ public enum LocalDatasource implements Datasource {
 			}
 			return xattrMap;
 		case EXIF:
-			Map<File, Object> exifMap = new LinkedHashMap<File, Object>(files.size());
-			for (File f : filter(files, ImageMetadata.SUPPORTED_FILE_TYPES)) {
-				try {
-					ImageMetadata metadata = new ImageMetadata(f);
-					if (metadata.getDateTaken().isPresent()) {
-						exifMap.put(f, new PhotoFile(f, metadata)); // photo mode is the same as generic file mode (but only select photo files)
-					} else if (!strict) {
-						exifMap.put(f, f);
+			List<File> photos = filter(files, ImageMetadata.SUPPORTED_FILE_TYPES);
+			Map<File, Object> exifMap = new LinkedHashMap<File, Object>(photos.size());
+
+			// read image metadata in parallel but keep the original order
+			ExecutorService workerThreadPool = Executors.newFixedThreadPool(getPreferredThreadPoolSize());
+			try {
+				List<Future<ImageMetadata>> futures = new ArrayList<Future<ImageMetadata>>(photos.size());
+				for (File f : photos) {
+					futures.add(workerThreadPool.submit(() -> ImageMetadata.read(f)));
+				}
+
+				for (int i = 0; i < photos.size(); i++) {
+					File f = photos.get(i);
+					try {
+						ImageMetadata metadata = futures.get(i).get();
+						if (metadata.getDateTaken().isPresent()) {
+							exifMap.put(f, new PhotoFile(f, metadata)); // photo mode is the same as generic file mode (but only select photo files)
+						} else if (!strict) {
+							exifMap.put(f, f);
+						}
+					} catch (ExecutionException e) {
+						debug.warning(format("%s [%s]", e.getCause(), f));
 					}
-				} catch (Exception e) {
-					debug.warning(format("%s [%s]", e, f));
 				}
+			} catch (InterruptedException e) {
+				throw new CancellationException();
+			} finally {
+				workerThreadPool.shutdownNow();
 			}
 			return exifMap;
 		default:
@@ -6,6 +6,7 @@ import static java.util.regex.Pattern.*;
 import static java.util.stream.Collectors.*;
 import static net.filebot.Logging.*;
 import static net.filebot.MediaTypes.*;
+import static net.filebot.Settings.*;
 import static net.filebot.media.XattrMetaInfo.*;
 import static net.filebot.similarity.CommonSequenceMatcher.*;
 import static net.filebot.similarity.Normalization.*;
@@ -36,6 +37,12 @@ import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -61,6 +68,8 @@ import net.filebot.similarity.SeriesNameMatcher;
 import net.filebot.similarity.SimilarityComparator;
 import net.filebot.similarity.SimilarityMetric;
 import net.filebot.similarity.StringEqualsMetric;
+import net.filebot.util.DefaultThreadFactory;
+import net.filebot.util.SystemProperty;
 import net.filebot.vfs.FileInfo;
 import net.filebot.web.Episode;
 import net.filebot.web.Movie;
@@ -577,6 +586,131 @@ public class MediaDetection {
 
 	public static List<Movie> detectMovie(File movieFile, MovieIdentificationService service, Locale locale,
 			boolean strict) throws Exception {
+		return detectMovies(singleton(movieFile), service, locale, strict).get(movieFile);
+	}
+
+	public static Map<File, List<Movie>> detectMovies(Collection<File> movieFiles, MovieIdentificationService service,
+			Locale locale, boolean strict) throws Exception {
+		Map<File, List<Movie>> options = new LinkedHashMap<File, List<Movie>>();
+		Map<File, MovieQuery> queries = new LinkedHashMap<File, MovieQuery>();
+
+		// files with the same name terms (e.g. multi-part movies, samples, extras) share the same query
+		Map<Set<String>, MovieQuery> uniqueQueries = new LinkedHashMap<Set<String>, MovieQuery>();
+
+		for (File movieFile : movieFiles) {
+			options.put(movieFile, getMovieDescriptors(movieFile, service, locale));
+			queries.put(movieFile, uniqueQueries.computeIfAbsent(getMovieNameTerms(movieFile), MovieQuery::new));
+		}
+
+		if (uniqueQueries.isEmpty()) {
+			return options;
+		}
+
+		// match all unique queries against the movie index at once
+		List<MovieQuery> queryList = new ArrayList<MovieQuery>(uniqueQueries.values());
+		List<List<Movie>> exactMatches = matchMovieNames(queryList.stream().map(q -> q.terms).collect(toList()), true, 0);
+		for (int i = 0; i < queryList.size(); i++) {
+			queryList.get(i).exactMatches = exactMatches.get(i);
+		}
+
+		// match all queries without exact matches against the movie index at once
+		matchMovieNames(queryList.stream().filter(q -> q.exactMatches.isEmpty()).collect(toList()), q -> q.terms, names -> matchMovieNames(names, strict, 2));
+
+		// files that require further local and online matching
+		Set<File> remainingFiles = new LinkedHashSet<File>();
+		Set<MovieQuery> remainingQueries = new LinkedHashSet<MovieQuery>();
+
+		for (Entry<File, MovieQuery> it : queries.entrySet()) {
+			List<Movie> fileOptions = options.get(it.getKey());
+			MovieQuery query = it.getValue();
+
+			// skip further queries if collected matches are already sufficient
+			if (query.exactMatches.size() > 0) {
+				fileOptions.addAll(query.exactMatches);
+				options.put(it.getKey(), sortMoviesBySimilarity(fileOptions, query.terms));
+				continue;
+			}
+
+			// skip further queries if collected matches are already sufficient
+			if (fileOptions.size() > 0 && query.nameMatches.size() > 0) {
+				fileOptions.addAll(query.nameMatches);
+				options.put(it.getKey(), sortMoviesBySimilarity(fileOptions, query.terms));
+				continue;
+			}
+
+			remainingFiles.add(it.getKey());
+			remainingQueries.add(query);
+		}
+
+		matchMovieNameFallback(new ArrayList<MovieQuery>(remainingQueries), strict);
+
+		// query by file / folder name (only distinct online queries)
+		if (service != null && remainingQueries.size() > 0) {
+			Map<String, Resource<List<Movie>>> searchCache = new ConcurrentHashMap<String, Resource<List<Movie>>>();
+
+			Function<String, List<Movie>> search = q -> {
+				try {
+					return searchCache.computeIfAbsent(q, k -> Resource.lazy(() -> service.searchMovie(k, locale))).get();
+				} catch (Exception e) {
+					throw new CompletionException(e);
+				}
+			};
+
+			if (remainingQueries.size() == 1) {
+				for (MovieQuery query : remainingQueries) {
+					query.searchResults = searchMovieByFileName(query.terms, search, strict);
+				}
+			} else {
+				ExecutorService workerThreadPool = Executors.newFixedThreadPool(Math.min(remainingQueries.size(), getPreferredThreadPoolSize()));
+				try {
+					Map<MovieQuery, Future<List<Movie>>> tasks = new LinkedHashMap<MovieQuery, Future<List<Movie>>>();
+					for (MovieQuery query : remainingQueries) {
+						tasks.put(query, workerThreadPool.submit(() -> searchMovieByFileName(query.terms, search, strict)));
+					}
+					for (Entry<MovieQuery, Future<List<Movie>>> it : tasks.entrySet()) {
+						it.getKey().searchResults = getFutureValue(it.getValue());
+					}
+				} finally {
+					workerThreadPool.shutdownNow();
+				}
+			}
+		}
+
+		// files that share a query may have been completed already by their own descriptors
+		for (File movieFile : remainingFiles) {
+			MovieQuery query = queries.get(movieFile);
+			List<Movie> fileOptions = options.get(movieFile);
+
+			// online results have better ranking so add them first
+			if (query.searchResults != null) {
+				fileOptions.addAll(query.searchResults);
+			}
+
+			// consider potential local index matches second
+			fileOptions.addAll(query.nameMatches);
+
+			// sort by relevance
+			options.put(movieFile, sortMoviesBySimilarity(fileOptions, query.terms));
+		}
+
+		return options;
+	}
+
+	private static class MovieQuery {
+
+		public final Set<String> terms;
+
+		public List<Movie> exactMatches;
+		public List<Movie> nameMatches;
+		public List<Movie> searchResults;
+
+		public MovieQuery(Set<String> terms) {
+			this.terms = terms;
+		}
+	}
+
+	private static List<Movie> getMovieDescriptors(File movieFile, MovieIdentificationService service, Locale locale)
+			throws Exception {
 		List<Movie> options = new ArrayList<Movie>();
 
 		// try xattr metadata if enabled
@@ -609,6 +743,10 @@ public class MediaDetection {
 			}
 		}
 
+		return options;
+	}
+
+	private static Set<String> getMovieNameTerms(File movieFile) throws Exception {
 		// search by file name or folder name (NOTE: can't initialize with known options
 		// because misleading NFO files may lead to bad matches)
 		List<String> names = new ArrayList<String>(2);
@@ -623,101 +761,122 @@ public class MediaDetection {
 		}
 
 		// reduce movie names
-		Set<String> terms = reduceMovieNamePermutations(names);
-
-		List<Movie> movieNameMatches = matchMovieName(terms, true, 0);
-
-		// skip further queries if collected matches are already sufficient
-
-		if (movieNameMatches.size() > 0) {
-			options.addAll(movieNameMatches);
-			return sortMoviesBySimilarity(options, terms);
-		}
-
-		if (movieNameMatches.isEmpty()) {
-			movieNameMatches = matchMovieName(terms, strict, 2);
-		}
-
-		// skip further queries if collected matches are already sufficient
-		if (options.size() > 0 && movieNameMatches.size() > 0) {
-			options.addAll(movieNameMatches);
-			return sortMoviesBySimilarity(options, terms);
-		}
+		return reduceMovieNamePermutations(names);
+	}
 
+	private static void matchMovieNameFallback(List<MovieQuery> queries, boolean strict) {
 		// if matching name+year failed, try matching only by name (in non-strict mode
 		// we would have checked these cases already by now)
-		if (movieNameMatches.isEmpty() && strict) {
-			movieNameMatches = matchMovieName(terms, false, 0);
-			if (movieNameMatches.isEmpty()) {
-				movieNameMatches = matchMovieName(terms, false, 2);
-			}
+		if (strict) {
+			matchMovieNames(queries, q -> q.terms, names -> matchMovieNames(names, false, 0));
+			matchMovieNames(queries, q -> q.terms, names -> matchMovieNames(names, false, 2));
 		}
 
 		// assume name without spacing will mess up any lookup
-		if (movieNameMatches.isEmpty()) {
-			movieNameMatches = matchMovieFromStringWithoutSpacing(terms, strict);
-
-			// check alternative terms if necessary and only if they're different
-			if (movieNameMatches.isEmpty()) {
-				List<String> alternativeTerms = stripReleaseInfo(terms, true);
-				if (!terms.containsAll(alternativeTerms)) {
-					movieNameMatches = matchMovieFromStringWithoutSpacing(alternativeTerms, strict);
+		matchMovieNames(queries, q -> q.terms, names -> matchMoviesFromStringWithoutSpacing(names, strict));
+
+		// check alternative terms if necessary and only if they're different
+		matchMovieNames(queries, q -> {
+			List<String> alternativeTerms = stripReleaseInfo(q.terms, true);
+			return q.terms.containsAll(alternativeTerms) ? null : alternativeTerms;
+		}, names -> matchMoviesFromStringWithoutSpacing(names, strict));
+	}
+
+	/**
+	 * Match the names of all given queries that don't have any name matches yet (or null if there are no names to match) with a single pass over the movie index.
+	 */
+	private static void matchMovieNames(List<MovieQuery> queries, Function<MovieQuery, Collection<String>> names, Function<List<Collection<String>>, List<List<Movie>>> matcher) {
+		List<MovieQuery> unmatched = new ArrayList<MovieQuery>();
+		List<Collection<String>> unmatchedNames = new ArrayList<Collection<String>>();
+
+		for (MovieQuery query : queries) {
+			if (query.nameMatches == null || query.nameMatches.isEmpty()) {
+				Collection<String> n = names.apply(query);
+				if (n != null) {
+					unmatched.add(query);
+					unmatchedNames.add(n);
 				}
 			}
 		}
 
-		// query by file / folder name
-		if (service != null) {
-			List<Movie> results = queryMovieByFileName(terms, service, locale);
-
-			// try query without year as it sometimes messes up results if years don't match
-			// properly (movie release years vs dvd release year, etc)
-			if (results.isEmpty() && !strict) {
-				List<String> lastResortQueryList = new ArrayList<String>();
-				Pattern yearPattern = Pattern.compile("(?:19|20)\\d{2}");
-				Pattern akaPattern = Pattern.compile("\\bAKA\\b", Pattern.CASE_INSENSITIVE);
-				for (String term : terms) {
-					if (yearPattern.matcher(term).find() || akaPattern.matcher(term).find()) {
-						// try to separate AKA titles as well into separate searches
-						for (String mn : akaPattern.split(yearPattern.matcher(term).replaceAll(""))) {
-							lastResortQueryList.add(mn.trim());
-						}
+		if (unmatched.isEmpty()) {
+			return;
+		}
+
+		List<List<Movie>> matches = matcher.apply(unmatchedNames);
+		for (int i = 0; i < unmatched.size(); i++) {
+			unmatched.get(i).nameMatches = matches.get(i);
+		}
+	}
+
+	private static List<Movie> searchMovieByFileName(Set<String> terms, Function<String, List<Movie>> search,
+			boolean strict) throws Exception {
+		List<Movie> results = queryMovieByFileName(terms, search);
+
+		// try query without year as it sometimes messes up results if years don't match
+		// properly (movie release years vs dvd release year, etc)
+		if (results.isEmpty() && !strict) {
+			List<String> lastResortQueryList = new ArrayList<String>();
+			Pattern yearPattern = Pattern.compile("(?:19|20)\\d{2}");
+			Pattern akaPattern = Pattern.compile("\\bAKA\\b", Pattern.CASE_INSENSITIVE);
+			for (String term : terms) {
+				if (yearPattern.matcher(term).find() || akaPattern.matcher(term).find()) {
+					// try to separate AKA titles as well into separate searches
+					for (String mn : akaPattern.split(yearPattern.matcher(term).replaceAll(""))) {
+						lastResortQueryList.add(mn.trim());
 					}
 				}
-				if (lastResortQueryList.size() > 0) {
-					results = queryMovieByFileName(lastResortQueryList, service, locale);
-				}
 			}
-
-			// online results have better ranking so add them first
-			options.addAll(results);
+			if (lastResortQueryList.size() > 0) {
+				results = queryMovieByFileName(lastResortQueryList, search);
+			}
 		}
 
-		// consider potential local index matches second
-		options.addAll(movieNameMatches);
+		return results;
+	}
 
-		// sort by relevance
-		return sortMoviesBySimilarity(options, terms);
+	private static <T> T getFutureValue(Future<T> future) throws Exception {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception) {
+				throw (Exception) e.getCause();
+			}
+			throw e;
+		}
 	}
 
 	public static List<Movie> detectMovieWithYear(File movieFile, MovieIdentificationService service, Locale locale,
 			boolean strict) throws Exception {
+		return detectMoviesWithYear(singleton(movieFile), service, locale, strict).get(movieFile);
+	}
+
+	public static Map<File, List<Movie>> detectMoviesWithYear(Collection<File> movieFiles,
+			MovieIdentificationService service, Locale locale, boolean strict) throws Exception {
 		// in non-strict mode, process all movie files as best as possible
 		if (!strict) {
-			return detectMovie(movieFile, service, locale, strict);
+			return detectMovies(movieFiles, service, locale, strict);
 		}
 
 		// in strict mode, only process movies that follow the name (year) pattern, so
 		// we can confirm each match by checking the movie year
-		List<Integer> year = parseMovieYear(getRelativePathTail(movieFile, 3).getPath());
-		if (year.isEmpty() || isEpisode(movieFile, true)) {
-			return null;
+		Map<File, List<Integer>> years = new LinkedHashMap<File, List<Integer>>();
+		for (File movieFile : movieFiles) {
+			List<Integer> year = parseMovieYear(getRelativePathTail(movieFile, 3).getPath());
+			if (year.size() > 0 && !isEpisode(movieFile, true)) {
+				years.put(movieFile, year);
+			}
 		}
 
 		// allow only movie matches where the the movie year matches the year pattern in
 		// the filename
-		return detectMovie(movieFile, service, locale, strict).stream().filter(m -> year.contains(m.getYear()))
-				.collect(toList());
+		Map<File, List<Movie>> options = detectMovies(years.keySet(), service, locale, strict);
+		Map<File, List<Movie>> matches = new LinkedHashMap<File, List<Movie>>();
+		for (File movieFile : movieFiles) {
+			List<Integer> year = years.get(movieFile);
+			matches.put(movieFile, year == null ? null : options.get(movieFile).stream().filter(m -> year.contains(m.getYear())).collect(toList()));
+		}
+		return matches;
 	}
 
 	public static SimilarityMetric getMovieMatchMetric() {
@@ -915,80 +1074,136 @@ public class MediaDetection {
 	}
 
 	public static List<Movie> matchMovieName(Collection<String> files, boolean strict, int maxStartIndex) {
+		return matchMovieNames(singletonList(files), strict, maxStartIndex).get(0);
+	}
+
+	public static List<List<Movie>> matchMovieNames(List<? extends Collection<String>> queries, boolean strict, int maxStartIndex) {
 		// cross-reference file / folder name with movie list
 		final HighPerformanceMatcher nameMatcher = new HighPerformanceMatcher(maxStartIndex);
-		final Map<Movie, String> matchMap = new HashMap<Movie, String>();
 
-		List<CollationKey[]> names = HighPerformanceMatcher.prepare(files);
+		// prepare each distinct name only once
+		Map<String, Integer> nameIndex = new LinkedHashMap<String, Integer>();
+		List<int[]> queryNames = new ArrayList<int[]>(queries.size());
+		for (Collection<String> files : queries) {
+			queryNames.add(files.stream().filter(Objects::nonNull).mapToInt(f -> nameIndex.computeIfAbsent(f, k -> nameIndex.size())).toArray());
+		}
+
+		List<CollationKey[]> names = HighPerformanceMatcher.prepare(nameIndex.keySet());
+		List<Map<Movie, String>> matchMaps = queries.stream().map(q -> new HashMap<Movie, String>()).collect(toList());
+
+		// match states for each name: 0 = no match, 1 = lenient match, 2 = strict match
+		byte[] match = new byte[names.size()];
 
 		for (IndexEntry<Movie> movie : getMovieIndex()) {
-			for (CollationKey[] name : names) {
+			boolean found = false;
+			for (int i = 0; i < names.size(); i++) {
+				match[i] = 0;
 				CollationKey[] commonName = nameMatcher
-						.matchFirstCommonSequence(new CollationKey[][] { name, movie.getLenientKey() });
+						.matchFirstCommonSequence(new CollationKey[][] { names.get(i), movie.getLenientKey() });
 				if (commonName != null && commonName.length >= movie.getLenientKey().length) {
 					CollationKey[] strictCommonName = nameMatcher
-							.matchFirstCommonSequence(new CollationKey[][] { name, movie.getStrictKey() });
-					if (strictCommonName != null && strictCommonName.length >= movie.getStrictKey().length) {
+							.matchFirstCommonSequence(new CollationKey[][] { names.get(i), movie.getStrictKey() });
+					match[i] = (byte) (strictCommonName != null && strictCommonName.length >= movie.getStrictKey().length ? 2 : 1);
+					found = true;
+				}
+			}
+
+			if (!found) {
+				continue;
+			}
+
+			for (int q = 0; q < queryNames.size(); q++) {
+				for (int i : queryNames.get(q)) {
+					if (match[i] == 2) {
 						// prefer strict match
-						matchMap.put(movie.getObject(), movie.getStrictName());
-					} else if (!strict) {
+						matchMaps.get(q).put(movie.getObject(), movie.getStrictName());
+					} else if (match[i] == 1 && !strict) {
 						// make sure the common identifier is not just the year
-						matchMap.put(movie.getObject(), movie.getLenientName());
+						matchMaps.get(q).put(movie.getObject(), movie.getLenientName());
 					}
 				}
 			}
 		}
 
 		// sort by length of name match (descending)
-		return matchMap.keySet().stream().sorted((a, b) -> {
-			return Integer.compare(matchMap.get(b).length(), matchMap.get(a).length());
+		return matchMaps.stream().map(matchMap -> {
+			return matchMap.keySet().stream().sorted((a, b) -> {
+				return Integer.compare(matchMap.get(b).length(), matchMap.get(a).length());
+			}).collect(toList());
 		}).collect(toList());
 	}
 
 	public static List<Movie> matchMovieFromStringWithoutSpacing(Collection<String> names, boolean strict) {
+		return matchMoviesFromStringWithoutSpacing(singletonList(names), strict).get(0);
+	}
+
+	public static List<List<Movie>> matchMoviesFromStringWithoutSpacing(List<? extends Collection<String>> queries, boolean strict) {
 		// clear name of punctuation, spacing, and leading 'The' or 'A' that are common
 		// causes for word-lookup to fail
 		Pattern spacing = Pattern.compile("(^(?i)(The|A)\\b)|[\\p{Punct}\\p{Space}]+");
 
-		List<String> terms = new ArrayList<String>(names.size());
-		for (String it : names) {
-			String term = spacing.matcher(it).replaceAll("").toLowerCase();
-			if (term.length() >= 3) {
-				terms.add(term); // only consider words, not just random letters
+		List<List<String>> queryTerms = new ArrayList<List<String>>(queries.size());
+		for (Collection<String> names : queries) {
+			List<String> terms = new ArrayList<String>(names.size());
+			for (String it : names) {
+				String term = spacing.matcher(it).replaceAll("").toLowerCase();
+				if (term.length() >= 3) {
+					terms.add(term); // only consider words, not just random letters
+				}
 			}
+			queryTerms.add(terms);
 		}
 
 		// similarity threshold based on strict/non-strict
 		SimilarityMetric metric = new NameSimilarityMetric();
 		float similarityThreshold = strict ? 0.9f : 0.5f;
 
-		LinkedList<Movie> movies = new LinkedList<Movie>();
+		List<LinkedList<Movie>> matches = queries.stream().map(q -> new LinkedList<Movie>()).collect(toList());
+
+		// match all queries with a single pass over the movie index
 		for (IndexEntry<Movie> it : getMovieIndex()) {
-			String name = spacing.matcher(it.getLenientName()).replaceAll("").toLowerCase();
-			for (String term : terms) {
-				if (term.contains(name)) {
-					String year = String.valueOf(it.getObject().getYear());
-					if (term.contains(year) && metric.getSimilarity(term, name + year) > similarityThreshold) {
-						movies.addFirst(it.getObject());
-					} else if (metric.getSimilarity(term, name) > similarityThreshold) {
-						movies.addLast(it.getObject());
+			String name = null;
+			for (int q = 0; q < queryTerms.size(); q++) {
+				List<String> terms = queryTerms.get(q);
+				if (terms.isEmpty()) {
+					continue;
+				}
+
+				if (name == null) {
+					name = spacing.matcher(it.getLenientName()).replaceAll("").toLowerCase();
+				}
+
+				LinkedList<Movie> movies = matches.get(q);
+				for (String term : terms) {
+					if (term.contains(name)) {
+						String year = String.valueOf(it.getObject().getYear());
+						if (term.contains(year) && metric.getSimilarity(term, name + year) > similarityThreshold) {
+							movies.addFirst(it.getObject());
+						} else if (metric.getSimilarity(term, name) > similarityThreshold) {
+							movies.addLast(it.getObject());
+						}
+						break;
 					}
-					break;
 				}
 			}
 		}
-		return new ArrayList<Movie>(movies);
+
+		return matches.stream().map(ArrayList<Movie>::new).collect(toList());
 	}
 
-	private static List<Movie> queryMovieByFileName(Collection<String> files,
-			MovieIdentificationService queryLookupService, Locale locale) throws Exception {
+	private static List<Movie> queryMovieByFileName(Collection<String> files, Function<String, List<Movie>> search) throws Exception {
 		// remove blacklisted terms and remove duplicates
 		List<String> querySet = getUniqueQuerySet(emptySet(), files);
 
 		final Map<Movie, Float> probabilityMap = new LinkedHashMap<Movie, Float>();
 		final SimilarityMetric metric = getMovieMatchMetric();
 		for (String query : querySet) {
-			List<Movie> results = queryLookupService.searchMovie(query.toLowerCase(), locale);
+			List<Movie> results;
+			try {
+				results = search.apply(query.toLowerCase());
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+			}
 			for (Movie movie : results) {
 				probabilityMap.put(movie, metric.getSimilarity(query, movie));
 			}
@@ -1397,16 +1612,59 @@ public class MediaDetection {
 	}
 
 	public static void warmupCachedResources() throws Exception {
+		for (Resource<?> it : getCachedResources()) {
+			it.get();
+		}
+	}
+
+	private static final SystemProperty<Boolean> preloadCachedResources = SystemProperty.of("net.filebot.media.preload", Boolean::parseBoolean, true);
+
+	public static void preloadCachedResources() {
+		if (!preloadCachedResources.get()) {
+			return;
+		}
+
+		// load all resources concurrently in the background, detection calls will only block on the specific resource they need (i.e. memoized resources and indexes are synchronized)
+		List<Resource<?>> resources = getCachedResources();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(resources.size(), getPreferredThreadPoolSize()), new DefaultThreadFactory("Preload", Thread.NORM_PRIORITY, true));
+
+		for (Resource<?> it : resources) {
+			executor.execute(() -> {
+				try {
+					it.get();
+				} catch (Exception e) {
+					debug.finest(format("Failed to preload cached resources: %s", e));
+				}
+			});
+		}
+
+		executor.shutdown();
+	}
+
+	private static List<Resource<?>> getCachedResources() {
+		List<Resource<?>> resources = new ArrayList<Resource<?>>();
+
 		// load filter data
-		MediaDetection.getClutterFileFilter();
-		MediaDetection.getDiskFolderFilter();
-		MediaDetection.matchSeriesMappings(emptyList());
-
-		// load movie/series index
-		MediaDetection.stripReleaseInfo(singleton(""), true);
-		MediaDetection.matchSeriesByName(singleton(""), -1, MediaDetection.getSeriesIndex());
-		MediaDetection.matchSeriesByName(singleton(""), -1, MediaDetection.getAnimeIndex());
-		MediaDetection.matchMovieName(singleton(""), true, -1);
+		resources.add(() -> asList(getClutterFileFilter(), getDiskFolderFilter(), getSystemFilesFilter()));
+		resources.add(() -> matchSeriesMappings(emptyList()));
+
+		// load release info patterns
+		resources.add(() -> stripReleaseInfo(singleton(""), true));
+
+		// load movie/series index and prepare the collation keys of all index entries
+		resources.add(() -> prepareIndexKeys(getSeriesIndex()));
+		resources.add(() -> prepareIndexKeys(getAnimeIndex()));
+		resources.add(() -> prepareIndexKeys(getMovieIndex()));
+
+		return resources;
+	}
+
+	private static <T> List<IndexEntry<T>> prepareIndexKeys(List<IndexEntry<T>> index) {
+		for (IndexEntry<T> it : index) {
+			it.getLenientKey();
+			it.getStrictKey();
+		}
+		return index;
 	}
 
 }
@@ -7,6 +7,8 @@ import static java.util.Collections.*;
 import static java.util.ResourceBundle.*;
 import static java.util.regex.Pattern.*;
 import static java.util.stream.Collectors.*;
+import static net.filebot.CachedResource.*;
+import static net.filebot.Logging.*;
 import static net.filebot.Settings.*;
 import static net.filebot.similarity.Normalization.*;
 import static net.filebot.util.FileUtilities.*;
@@ -41,12 +43,14 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.zip.CRC32;
 
 import org.tukaani.xz.XZInputStream;
 
 import net.filebot.ApplicationFolder;
 import net.filebot.Cache;
 import net.filebot.CacheType;
+import net.filebot.CachedResource.Fetch;
 import net.filebot.Resource;
 import net.filebot.util.FileUtilities.RegexFindFilter;
 import net.filebot.util.FileUtilities.RegexMatchFilter;
@@ -54,6 +58,7 @@ import net.filebot.util.SystemProperty;
 import net.filebot.web.Movie;
 import net.filebot.web.SearchResult;
 import net.filebot.web.SubtitleSearchResult;
+import net.filebot.web.WebRequest;
 
 public class ReleaseInfo {
 
@@ -166,40 +171,53 @@ public class ReleaseInfo {
 
 	// cached patterns
 	private final Pattern[][] stopwords = new Pattern[2][];
-	private final Pattern[][] blacklist = new Pattern[2][];
+	private final KeywordMatcher[][] blacklist = new KeywordMatcher[2][];
 
 	public List<String> cleanRelease(Collection<String> items, boolean strict) throws Exception {
 		int b = strict ? 1 : 0;
 
-		// initialize cached patterns
-		if (stopwords[b] == null || blacklist[b] == null) {
-			Pattern clutterBracket = getClutterBracketPattern(strict);
-			Pattern releaseGroup = getReleaseGroupPattern(strict);
-			Pattern releaseGroupTrim = getReleaseGroupTrimPattern();
-			Pattern languageSuffix = getSubtitleLanguageTagPattern();
-			Pattern languageTag = getLanguageTagPattern(strict);
-			Pattern videoSource = getVideoSourcePattern();
-			Pattern videoTags = getVideoTagPattern();
-			Pattern videoFormat = getVideoFormatPattern(strict);
-			Pattern stereoscopic3d = getStereoscopic3DPattern();
-			Pattern resolution = getResolutionPattern();
-			Pattern queryBlacklist = getBlacklistPattern();
-
-			stopwords[b] = new Pattern[] { languageSuffix, languageTag, videoSource, videoTags, videoFormat, resolution,
-					stereoscopic3d };
-			blacklist[b] = new Pattern[] { EMBEDDED_CHECKSUM, languageSuffix, releaseGroupTrim, queryBlacklist,
-					languageTag, clutterBracket, releaseGroup, videoSource, videoTags, videoFormat, resolution,
-					stereoscopic3d };
+		// initialize cached patterns (resources may be preloaded concurrently)
+		Pattern[] stopwords;
+		KeywordMatcher[] blacklist;
+
+		synchronized (this.stopwords) {
+			if (this.stopwords[b] == null || this.blacklist[b] == null) {
+				String[] groups = releaseGroup.get();
+				String[] blacklistTerms = getBlacklistTerms();
+
+				Pattern clutterBracket = getClutterBracketPattern(strict);
+				Pattern releaseGroup = getReleaseGroupPattern(groups, strict);
+				Pattern releaseGroupTrim = getReleaseGroupTrimPattern(groups);
+				Pattern languageSuffix = getSubtitleLanguageTagPattern();
+				Pattern languageTag = getLanguageTagPattern(strict);
+				Pattern videoSource = getVideoSourcePattern();
+				Pattern videoTags = getVideoTagPattern();
+				Pattern videoFormat = getVideoFormatPattern(strict);
+				Pattern stereoscopic3d = getStereoscopic3DPattern();
+				Pattern resolution = getResolutionPattern();
+				Pattern queryBlacklist = compileWordPattern(blacklistTerms);
+
+				this.stopwords[b] = new Pattern[] { languageSuffix, languageTag, videoSource, videoTags, videoFormat, resolution,
+						stereoscopic3d };
+				// match large word list patterns via keyword index
+				this.blacklist[b] = new KeywordMatcher[] { new KeywordMatcher(EMBEDDED_CHECKSUM), new KeywordMatcher(languageSuffix),
+						new KeywordMatcher(releaseGroupTrim, groups), new KeywordMatcher(queryBlacklist, blacklistTerms),
+						new KeywordMatcher(languageTag), new KeywordMatcher(clutterBracket), new KeywordMatcher(releaseGroup, groups),
+						new KeywordMatcher(videoSource), new KeywordMatcher(videoTags), new KeywordMatcher(videoFormat),
+						new KeywordMatcher(resolution), new KeywordMatcher(stereoscopic3d) };
+			}
 
+			stopwords = this.stopwords[b];
+			blacklist = this.blacklist[b];
 		}
 
 		return items.stream().map(it -> {
 			if (strict) {
-				String head = clean(it, stopwords[b]);
-				return normalizePunctuation(clean(head, blacklist[b]));
+				String head = clean(it, stopwords);
+				return normalizePunctuation(clean(head, blacklist));
 			} else {
-				String head = substringBefore(it, stopwords[b]);
-				return normalizePunctuation(clean(head, blacklist[b]));
+				String head = substringBefore(it, stopwords);
+				return normalizePunctuation(clean(head, blacklist));
 			}
 		}).filter(s -> s.length() > 0).collect(toList());
 	}
@@ -211,6 +229,13 @@ public class ReleaseInfo {
 		return item;
 	}
 
+	private String clean(String item, KeywordMatcher[] blacklisted) {
+		for (KeywordMatcher it : blacklisted) {
+			item = it.replaceAll(item);
+		}
+		return item;
+	}
+
 	public String substringBefore(String item, Pattern... stopwords) {
 		for (Pattern it : stopwords) {
 			Matcher matcher = it.matcher(item);
@@ -364,8 +389,12 @@ public class ReleaseInfo {
 	}
 
 	public Pattern getReleaseGroupPattern(boolean strict) throws Exception {
+		return getReleaseGroupPattern(releaseGroup.get(), strict);
+	}
+
+	protected Pattern getReleaseGroupPattern(String[] groups, boolean strict) {
 		// match 1..N group patterns (e.g. GROUP[INDEX])
-		String group = "((?<!\\p{Alnum})" + or(releaseGroup.get()) + "(?!\\p{Alnum})[\\p{Punct}]??)+";
+		String group = "((?<!\\p{Alnum})" + or(groups) + "(?!\\p{Alnum})[\\p{Punct}]??)+";
 
 		// group pattern at beginning or ending of the string
 		String[] groupHeadTail = { "(?<=^[\\P{Alnum}]*)" + group, group + "(?=[\\P{Alnum}]*$)" };
@@ -374,23 +403,31 @@ public class ReleaseInfo {
 	}
 
 	public Pattern getReleaseGroupTrimPattern() throws Exception {
+		return getReleaseGroupTrimPattern(releaseGroup.get());
+	}
+
+	protected Pattern getReleaseGroupTrimPattern(String[] groups) {
 		// pattern matching any release group name enclosed in specific separators or at
 		// the start/end
-		return compile("(?<=\\[|\\(|^)" + or(releaseGroup.get()) + "(?=\\]|\\)|\\-)|(?<=\\[|\\(|\\-)"
-				+ or(releaseGroup.get()) + "(?=\\]|\\)|$)", CASE_INSENSITIVE);
+		return compile("(?<=\\[|\\(|^)" + or(groups) + "(?=\\]|\\)|\\-)|(?<=\\[|\\(|\\-)"
+				+ or(groups) + "(?=\\]|\\)|$)", CASE_INSENSITIVE);
 	}
 
 	public Pattern getBlacklistPattern() throws Exception {
+		return compileWordPattern(getBlacklistTerms()); // pattern matching any release group name enclosed in
+														// separators
+	}
+
+	private String[] getBlacklistTerms() throws Exception {
 		String[] terms = queryBlacklist.get();
 		// filter out overly tracking terms like .*
 		if (terms != null) {
 			terms = stream(terms).filter(s -> !s.equals(".*") && !s.isEmpty()).toArray(String[]::new);
 		}
-		return compileWordPattern(terms); // pattern matching any release group name enclosed in
-											// separators
+		return terms;
 	}
 
-	private Pattern compileWordPattern(String[] patterns) {
+	protected Pattern compileWordPattern(String[] patterns) {
 		return compile("(?<!\\p{Alnum})" + or(patterns) + "(?!\\p{Alnum})", CASE_INSENSITIVE); // use | to join patterns
 	}
 
@@ -527,6 +564,30 @@ public class ReleaseInfo {
 				SubtitleSearchResult.Kind.forName(kind), score);
 	}
 
+	private final Resource<String> dataVersion = Resource.lazy(this::computeDataVersion);
+
+	/**
+	 * Get a version identifier for the currently cached data files, so that results derived from these data files can be invalidated whenever the data files are updated.
+	 */
+	public String getDataVersion() throws Exception {
+		return dataVersion.get();
+	}
+
+	protected String computeDataVersion() {
+		Cache cache = Cache.getCache("data", CacheType.Persistent);
+		Cache etagStorage = Cache.getCache("data_etag", CacheType.Persistent);
+		CRC32 crc = new CRC32();
+
+		// identify each data file by its ETag, or by the time it was last stored if the data source does not support ETags
+		DATA_FILES.keySet().stream().sorted().forEach(name -> {
+			Object etag = etagStorage.get(name);
+			String version = etag != null ? etag.toString() : String.valueOf(cache.getLastModified(name));
+			crc.update(String.join("\t", name, version).getBytes(UTF_8));
+		});
+
+		return Long.toHexString(crc.getValue());
+	}
+
 	protected Resource<String[]> lines(String name, Duration expirationTime) {
 		return resource(name, expirationTime, Function.identity(), String[]::new).memoize();
 	}
@@ -540,7 +601,7 @@ public class ReleaseInfo {
 			IntFunction<A[]> generator) {
 		return () -> {
 			Cache cache = Cache.getCache("data", CacheType.Persistent);
-			byte[] bytes = cache.bytes(name, n -> getResourceURL(getProperty(n)), XZInputStream::new)
+			byte[] bytes = cache.bytes(name, n -> getResourceURL(getProperty(n)), XZInputStream::new).fetch(fetchIfModified(name, cache))
 					.expire(refreshDuration.optional().orElse(expirationTime)).get();
 
 			// all data files are UTF-8 encoded XZ compressed text files
@@ -550,6 +611,24 @@ public class ReleaseInfo {
 		};
 	}
 
+	protected Fetch fetchIfModified(String name, Cache cache) {
+		// revalidate expired data files via ETag or Last-Modified so that unchanged data files are not downloaded and decompressed again
+		Fetch remote = fetchIfNoneMatch(url -> name, cache);
+
+		return (url, lastModified) -> {
+			// local files and mirrors do not support conditional requests
+			if ("file".equals(url.getProtocol())) {
+				File file = new File(url.toURI());
+				if (lastModified > 0 && file.isFile() && file.lastModified() < lastModified) {
+					debug.finest(format("Not modified: %s", file));
+					return null;
+				}
+				return WebRequest.fetch(url);
+			}
+			return remote.fetch(url, lastModified);
+		};
+	}
+
 	protected String getProperty(String name) {
 		String explicit = System.getProperty(name);
 		if (explicit != null && explicit.length() > 0) {
@@ -1,6 +1,7 @@
 package net.filebot.mediainfo;
 
 import static java.nio.charset.StandardCharsets.*;
+import static java.util.Collections.*;
 import static java.util.stream.Collectors.*;
 import static net.filebot.Logging.*;
 import static net.filebot.util.RegularExpressions.*;
@@ -18,8 +19,11 @@ import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sun.jna.Platform;
 import com.sun.jna.Pointer;
 import com.sun.jna.WString;
@@ -233,7 +237,7 @@ public class MediaInfo implements MediaCharacteristics {
 		if (streamKind == StreamKind.Image && streamNumber == 0) {
 			String path = get(StreamKind.General, 0, "CompleteName");
 			try {
-				Map<String, String> values = new ImageMetadata(new File(path)).snapshot(t -> {
+				Map<String, String> values = ImageMetadata.read(new File(path)).snapshot(t -> {
 					return Stream.of(t.getDirectoryName(), t.getTagName()).flatMap(NON_WORD::splitAsStream).distinct().collect(joining("_"));
 				});
 				streamInfo.putAll(values);
@@ -327,8 +331,63 @@ public class MediaInfo implements MediaCharacteristics {
 	}
 
 	public static Map<StreamKind, List<Map<String, String>>> snapshot(File file) throws IOException {
-		try (MediaInfo mi = new MediaInfo().open(file)) {
-			return mi.snapshot();
+		return snapshot(file, null);
+	}
+
+	/**
+	 * Get media info snapshot for the given file via the given reusable MediaInfo handle (or a new handle if null). Snapshots are cached and reused as long as the file has not been modified.
+	 */
+	public static Map<StreamKind, List<Map<String, String>>> snapshot(File file, MediaInfo handle) throws IOException {
+		long length = file.length();
+		long lastModified = file.lastModified();
+
+		Snapshot snapshot = snapshotCache.getIfPresent(file);
+		if (snapshot != null && snapshot.length == length && snapshot.lastModified == lastModified) {
+			return snapshot.values;
+		}
+
+		Map<StreamKind, List<Map<String, String>>> values;
+		if (handle == null) {
+			try (MediaInfo mi = new MediaInfo().open(file)) {
+				values = mi.snapshot();
+			}
+		} else {
+			values = handle.open(file).snapshot();
+		}
+
+		// cached snapshots are shared, so make sure they can't be modified
+		values = unmodifiableSnapshot(values);
+
+		snapshotCache.put(file, new Snapshot(length, lastModified, values));
+		return values;
+	}
+
+	private static Map<StreamKind, List<Map<String, String>>> unmodifiableSnapshot(Map<StreamKind, List<Map<String, String>>> snapshot) {
+		Map<StreamKind, List<Map<String, String>>> values = new EnumMap<StreamKind, List<Map<String, String>>>(StreamKind.class);
+
+		snapshot.forEach((streamKind, streams) -> {
+			List<Map<String, String>> streamInfoList = new ArrayList<Map<String, String>>(streams.size());
+			for (Map<String, String> streamInfo : streams) {
+				streamInfoList.add(unmodifiableMap(new LinkedHashMap<String, String>(streamInfo)));
+			}
+			values.put(streamKind, unmodifiableList(streamInfoList));
+		});
+
+		return unmodifiableMap(values);
+	}
+
+	private static final Cache<File, Snapshot> snapshotCache = Caffeine.newBuilder().maximumSize(1000).expireAfterAccess(10, TimeUnit.MINUTES).build();
+
+	private static class Snapshot {
+
+		public final long length;
+		public final long lastModified;
+		public final Map<StreamKind, List<Map<String, String>>> values;
+
+		public Snapshot(long length, long lastModified, Map<StreamKind, List<Map<String, String>>> values) {
+			this.length = length;
+			this.lastModified = lastModified;
+			this.values = values;
 		}
 	}
 
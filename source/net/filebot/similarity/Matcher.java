@@ -18,6 +18,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.logging.Level;
 
 public class Matcher<V, C> {
 
@@ -139,8 +140,10 @@ public class Matcher<V, C> {
 		for (Match<V, C> possibleMatch : possibleMatches) {
 			float similarity = metric.getSimilarity(possibleMatch.getValue(), possibleMatch.getCandidate());
 
-			// DEBUG
-			debug.finest(format("%s %.04f => %s", metric, similarity, possibleMatch));
+			// DEBUG (check level first to avoid boxing and formatting for every pair)
+			if (debug.isLoggable(Level.FINEST)) {
+				debug.finest(format("%s %.04f => %s", metric, similarity, possibleMatch));
+			}
 
 			Set<Match<V, C>> matchSet = similarityMap.get(similarity);
 			if (matchSet == null) {
@@ -1,32 +1,39 @@
-
 package net.filebot.similarity;
 
 import static net.filebot.similarity.Normalization.*;
-import static org.simmetrics.builders.StringMetricBuilder.*;
-import static org.simmetrics.tokenizers.Tokenizers.*;
 
-import org.simmetrics.StringMetric;
-import org.simmetrics.metrics.BlockDistance;
+import java.util.concurrent.TimeUnit;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.ibm.icu.text.Transliterator;
 
 public class NameSimilarityMetric implements SimilarityMetric {
 
-	private final StringMetric metric = with(new BlockDistance<String>()).tokenize(qGramWithPadding(3)).build();
+	// transliterator instances are not thread-safe, so each thread gets its own
+	private static final ThreadLocal<Transliterator> transliterator = ThreadLocal.withInitial(() -> Transliterator.getInstance("Any-Latin;Latin-ASCII;[:Diacritic:]remove"));
 
-	private final Transliterator transliterator = Transliterator.getInstance("Any-Latin;Latin-ASCII;[:Diacritic:]remove");
+	private static final Cache<String, String> normalizationCache = Caffeine.newBuilder().maximumSize(10000).expireAfterAccess(10, TimeUnit.MINUTES).build();
 
 	@Override
 	public float getSimilarity(Object o1, Object o2) {
-		return metric.compare(normalize(o1), normalize(o2));
+		// compare memoized q-gram profiles
+		return QGramProfile.of(normalize(o1)).getSimilarity(QGramProfile.of(normalize(o2)));
 	}
 
 	protected String normalize(Object object) {
-		// 1. use string representation
-		// 2. apply transliterator
-		// 3. normalize separators and trim
-		// 4. normalize case
-		return normalizePunctuation(transliterator.transform(object.toString())).toLowerCase();
+		return normalizationCache.get(object.toString(), NameSimilarityMetric::normalizeName);
+	}
+
+	public static String normalizeName(String name) {
+		// 1. apply transliterator
+		// 2. normalize separators and trim
+		// 3. normalize case
+		return normalizePunctuation(transliterate(name)).toLowerCase();
+	}
+
+	private static String transliterate(String name) {
+		return transliterator.get().transform(name);
 	}
 
 }
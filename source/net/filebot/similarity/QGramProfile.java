@@ -0,0 +1,84 @@
+package net.filebot.similarity;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Padded 3-gram profile of a string. Each 3-gram is encoded as a single long value (3 x 21 bit code points) and the profile is kept as sorted array, so that profiles can be compared without
+ * allocation. Similarity values are the same as simmetrics {@code BlockDistance} with {@code qGramWithPadding(3)} tokens.
+ */
+public class QGramProfile {
+
+	private static final int PADDING = '#';
+
+	private static final Cache<String, QGramProfile> profileCache = Caffeine.newBuilder().maximumSize(10000).expireAfterAccess(10, TimeUnit.MINUTES).build();
+
+	public static QGramProfile of(String s) {
+		return profileCache.get(s, QGramProfile::new);
+	}
+
+	private final long[] grams;
+
+	public QGramProfile(String s) {
+		this.grams = tokenize(s);
+	}
+
+	public int size() {
+		return grams.length;
+	}
+
+	public float getSimilarity(QGramProfile other) {
+		long[] a = grams;
+		long[] b = other.grams;
+
+		if (a.length == 0 || b.length == 0) {
+			return a.length == b.length ? 1 : 0;
+		}
+
+		// block distance is the size of the symmetric difference of both multisets
+		int distance = 0;
+		int i = 0, j = 0;
+		while (i < a.length && j < b.length) {
+			if (a[i] < b[j]) {
+				distance++;
+				i++;
+			} else if (a[i] > b[j]) {
+				distance++;
+				j++;
+			} else {
+				i++;
+				j++;
+			}
+		}
+		distance += (a.length - i) + (b.length - j);
+
+		return 1 - (float) distance / (a.length + b.length);
+	}
+
+	private static long[] tokenize(String s) {
+		if (s.isEmpty()) {
+			return new long[0];
+		}
+
+		// pad with ## at start and end
+		int[] cp = new int[s.codePointCount(0, s.length()) + 4];
+		cp[0] = cp[1] = cp[cp.length - 2] = cp[cp.length - 1] = PADDING;
+
+		for (int i = 0, k = 2; i < s.length(); k++) {
+			cp[k] = s.codePointAt(i);
+			i += Character.charCount(cp[k]);
+		}
+
+		long[] grams = new long[cp.length - 2];
+		for (int i = 0; i < grams.length; i++) {
+			grams[i] = ((long) cp[i] << 42) | ((long) cp[i + 1] << 21) | cp[i + 2];
+		}
+
+		Arrays.sort(grams);
+		return grams;
+	}
+
+}
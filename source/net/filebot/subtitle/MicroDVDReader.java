@@ -1,23 +1,19 @@
 package net.filebot.subtitle;
 
-import static net.filebot.util.RegularExpressions.*;
-import static net.filebot.util.StringUtilities.*;
-
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 
 public class MicroDVDReader extends SubtitleReader {
 
 	private double fps = 23.976;
 
-	public MicroDVDReader(Scanner scanner) {
-		super(scanner);
+	public MicroDVDReader(CharSequence content) {
+		super(content);
 	}
 
 	@Override
 	public SubtitleElement readNext() throws Exception {
-		String line = scanner.nextLine();
+		String line = lines.nextLine();
 
 		List<String> properties = new ArrayList<String>(2);
 		int from = 0;
@@ -46,7 +42,7 @@ public class MicroDVDReader extends SubtitleReader {
 		String text = line.substring(from).trim();
 
 		// cancel format markers
-		text = text.replaceAll("\\{[^\\}]*\\}", "");
+		text = removeFormatMarkers(text);
 
 		if (startFrame == 1 && endFrame == 1) {
 			// override fps
@@ -56,11 +52,32 @@ public class MicroDVDReader extends SubtitleReader {
 			return null;
 		}
 
-		// translate '|' to new lines
-		String[] lines = PIPE.split(text);
+		// translate '|' to new lines and convert frame interval to time interval
+		return new SubtitleElement(Math.round(startFrame * fps), Math.round(endFrame * fps), resolveLineBreaks(text, "|"));
+	}
+
+	private static String removeFormatMarkers(String text) {
+		int from = text.indexOf('{');
+		if (from < 0) {
+			return text;
+		}
+
+		StringBuilder sb = new StringBuilder(text.length());
+		int i = 0;
+
+		while (from >= 0) {
+			int to = text.indexOf('}', from + 1);
+
+			// unterminated format marker
+			if (to < 0)
+				break;
+
+			sb.append(text, i, from);
+			i = to + 1;
+			from = text.indexOf('{', i);
+		}
 
-		// convert frame interval to time interval
-		return new SubtitleElement(Math.round(startFrame * fps), Math.round(endFrame * fps), join(lines, "\n"));
+		return sb.append(text, i, text.length()).toString();
 	}
 
 }
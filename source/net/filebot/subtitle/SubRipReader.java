@@ -1,62 +1,108 @@
 package net.filebot.subtitle;
 
-import static net.filebot.util.StringUtilities.*;
-
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Locale;
-import java.util.Scanner;
-import java.util.TimeZone;
-import java.util.regex.Pattern;
+import static net.filebot.subtitle.SubtitleTimeFormat.*;
 
 public class SubRipReader extends SubtitleReader {
 
-	private final DateFormat timeFormat;
-	private final Pattern tag;
-
-	public SubRipReader(Scanner scanner) {
-		super(scanner);
-
-		// format used to parse time stamps (e.g. 00:02:26,407 --> 00:02:31,356)
-		timeFormat = new SimpleDateFormat("HH:mm:ss,SSS", Locale.ROOT);
-		timeFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-
-		// pattern for <b>, <u>, <i>, <font color="#ccffee"> and corresponding end tags
-		tag = Pattern.compile("</?(b|u|i|font[^<>]*)>", Pattern.CASE_INSENSITIVE);
+	public SubRipReader(CharSequence content) {
+		super(content);
 	}
 
 	@Override
 	protected SubtitleElement readNext() throws Exception {
-		String number = scanner.nextLine();
+		String number = lines.nextLine();
 
 		// ignore illegal lines
-		if (!number.matches("\\d+"))
+		if (!isNumber(number))
 			return null;
 
-		String[] interval = scanner.nextLine().split("-->", 2);
+		String interval = lines.nextLine();
+		int arrow = interval.indexOf("-->");
 
 		// ignore illegal lines
-		if (interval.length < 2)
+		if (arrow < 0)
 			return null;
 
-		long t1 = timeFormat.parse(interval[0].trim()).getTime();
-		long t2 = timeFormat.parse(interval[1].trim()).getTime();
+		// parse time stamps (e.g. 00:02:26,407 --> 00:02:31,356)
+		long t1 = parseSubRip(interval.substring(0, arrow).trim());
+		long t2 = parseSubRip(interval.substring(arrow + 3).trim());
 
-		List<String> lines = new ArrayList<String>(2);
+		StringBuilder text = new StringBuilder(80);
 
 		// read all lines until the next empty line
-		for (String line = scanner.nextLine(); line.length() > 0; line = scanner.hasNextLine() ? scanner.nextLine() : "") {
-			lines.add(line);
+		for (String line = lines.nextLine(); line.length() > 0; line = lines.hasNextLine() ? lines.nextLine() : "") {
+			if (text.length() > 0) {
+				text.append('\n');
+			}
+			text.append(line);
 		}
 
-		return new SubtitleElement(t1, t2, resolve(join(lines, "\n")));
+		return new SubtitleElement(t1, t2, resolve(text.toString()));
+	}
+
+	private static boolean isNumber(String s) {
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c < '0' || c > '9') {
+				return false;
+			}
+		}
+		return s.length() > 0;
 	}
 
 	protected String resolve(String text) {
-		// remove tags
-		return tag.matcher(text).replaceAll("").trim();
+		// remove <b>, <u>, <i>, <font color="#ccffee"> and corresponding end tags
+		StringBuilder sb = new StringBuilder(text.length());
+
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '<') {
+				int end = findTagEnd(text, i);
+				if (end > 0) {
+					i = end;
+					continue;
+				}
+			}
+			sb.append(c);
+		}
+
+		return sb.toString().trim();
+	}
+
+	private static int findTagEnd(String text, int start) {
+		int length = text.length();
+		int i = start + 1;
+
+		// end tag
+		if (i < length && text.charAt(i) == '/') {
+			i++;
+		}
+
+		if (i + 1 < length && text.charAt(i + 1) == '>') {
+			switch (text.charAt(i)) {
+			case 'b':
+			case 'B':
+			case 'u':
+			case 'U':
+			case 'i':
+			case 'I':
+				return i + 1;
+			}
+		}
+
+		if (i + 4 <= length && text.regionMatches(true, i, "font", 0, 4)) {
+			for (i += 4; i < length; i++) {
+				char c = text.charAt(i);
+				if (c == '>') {
+					return i;
+				}
+				if (c == '<') {
+					break;
+				}
+			}
+		}
+
+		return -1;
 	}
 
 }
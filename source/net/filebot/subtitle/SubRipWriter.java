@@ -2,46 +2,46 @@
 package net.filebot.subtitle;
 
 
+import static net.filebot.subtitle.SubtitleTimeFormat.*;
+
 import java.io.Closeable;
 import java.io.IOException;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Formatter;
-import java.util.Locale;
-import java.util.TimeZone;
 
 
 public class SubRipWriter implements Closeable {
 
-	private final DateFormat timeFormat;
-	private final Formatter out;
+	private final Appendable out;
+	private final StringBuilder buffer = new StringBuilder(256);
+	private final String newline = System.lineSeparator();
 
 	private int lineNumber = 0;
 
 
 	public SubRipWriter(Appendable out) {
-		this.out = new Formatter(out, Locale.ROOT);
-
-		// format used to create time stamps (e.g. 00:02:26,407 --> 00:02:31,356)
-		timeFormat = new SimpleDateFormat("HH:mm:ss,SSS", Locale.ROOT);
-		timeFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+		this.out = out;
 	}
 
 
-	public void write(SubtitleElement element) {
+	public void write(SubtitleElement element) throws IOException {
 		//		write a single subtitle in SubRip format, e.g.
 		//		1
 		//		00:00:20,000 --> 00:00:24,400
 		//		Altocumulus clouds occur between six thousand
-		out.format("%d%n", ++lineNumber);
-		out.format("%s --> %s%n", timeFormat.format(element.getStart()), timeFormat.format(element.getEnd()));
-		out.format("%s%n%n", element.getText());
+		buffer.setLength(0);
+		buffer.append(++lineNumber).append(newline);
+		formatSubRip(element.getStart(), buffer).append(" --> ");
+		formatSubRip(element.getEnd(), buffer).append(newline);
+		buffer.append(element.getText()).append(newline).append(newline);
+
+		out.append(buffer);
 	}
 
 
 	@Override
 	public void close() throws IOException {
-		out.close();
+		if (out instanceof Closeable) {
+			((Closeable) out).close();
+		}
 	}
 
 }
@@ -2,32 +2,25 @@
 package net.filebot.subtitle;
 
 import static java.util.Arrays.*;
+import static net.filebot.subtitle.SubtitleTimeFormat.*;
 
-import java.text.DateFormat;
 import java.util.InputMismatchException;
 import java.util.List;
-import java.util.Scanner;
-import java.util.regex.Pattern;
 
 public class SubStationAlphaReader extends SubtitleReader {
 
-	private final DateFormat timeFormat = new SubtitleTimeFormat();
-	private final Pattern newline = Pattern.compile(Pattern.quote("\\n"), Pattern.CASE_INSENSITIVE);
-	private final Pattern tags = Pattern.compile("[{]\\\\[^}]+[}]");
-	private final Pattern drawingTags = Pattern.compile("\\\\[p][0-4]"); // ignore drawing commands (http://docs.aegisub.org/3.2/ASS_Tags/#drawing-commands)
-
 	private String[] format;
 	private int formatIndexStart;
 	private int formatIndexEnd;
 	private int formatIndexText;
 
-	public SubStationAlphaReader(Scanner scanner) {
-		super(scanner);
+	public SubStationAlphaReader(CharSequence content) {
+		super(content);
 	}
 
 	private void readFormat() throws Exception {
 		// read format line (e.g. Format: Marked, Start, End, Style, Name, MarginL, MarginR, MarginV, Effect, Text)
-		String line = scanner.nextLine();
+		String line = lines.nextLine();
 		String[] event = line.split(":", 2);
 
 		// sanity check
@@ -54,8 +47,8 @@ public class SubStationAlphaReader extends SubtitleReader {
 			// move to [Events] sections
 			boolean found = false;
 
-			while (!found && scanner.hasNextLine()) {
-				found = scanner.nextLine().equals("[Events]");
+			while (!found && lines.hasNextLine()) {
+				found = lines.nextLine().equals("[Events]");
 			}
 
 			if (!found) {
@@ -67,7 +60,7 @@ public class SubStationAlphaReader extends SubtitleReader {
 		}
 
 		// read next dialogue line
-		String[] event = scanner.nextLine().split(":", 2);
+		String[] event = lines.nextLine().split(":", 2);
 
 		// ignore non-dialog lines
 		if (event.length < 2 || !event[0].equals("Dialogue"))
@@ -76,23 +69,54 @@ public class SubStationAlphaReader extends SubtitleReader {
 		// extract information
 		String[] values = event[1].split(",", format.length);
 
-		long start = timeFormat.parse(values[formatIndexStart].trim()).getTime();
-		long end = timeFormat.parse(values[formatIndexEnd].trim()).getTime();
+		long start = parseHundredths(values[formatIndexStart].trim());
+		long end = parseHundredths(values[formatIndexEnd].trim());
 		String text = values[formatIndexText].trim();
 
 		// ignore drawing instructions
-		if (drawingTags.matcher(text).find())
+		if (isDrawing(text))
 			return null;
 
 		return new SubtitleElement(start, end, resolve(text));
 	}
 
+	protected boolean isDrawing(String text) {
+		// drawing commands \p1 to \p4 and \p0 (http://docs.aegisub.org/3.2/ASS_Tags/#drawing-commands)
+		for (int i = text.indexOf("\\p"); i >= 0; i = text.indexOf("\\p", i + 1)) {
+			if (i + 2 < text.length() && text.charAt(i + 2) >= '0' && text.charAt(i + 2) <= '4') {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	protected String resolve(String text) {
-		// remove tags
-		text = tags.matcher(text).replaceAll("");
+		StringBuilder sb = new StringBuilder(text.length());
+
+		// remove override tags (e.g. {\b1}) and resolve line breaks (i.e. \n and \N)
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+
+			if (c == '{' && i + 2 < text.length() && text.charAt(i + 1) == '\\' && text.charAt(i + 2) != '}') {
+				int end = text.indexOf('}', i + 3);
+				if (end > 0) {
+					i = end;
+					continue;
+				}
+			}
+
+			sb.append(c);
+
+			if (c == 'n' || c == 'N') {
+				int length = sb.length();
+				if (length >= 2 && sb.charAt(length - 2) == '\\') {
+					sb.setLength(length - 2);
+					sb.append('\n');
+				}
+			}
+		}
 
-		// resolve line breaks
-		return newline.matcher(text).replaceAll("\n");
+		return sb.toString();
 	}
 
 }
@@ -1,45 +1,32 @@
-
 package net.filebot.subtitle;
 
-import static java.util.regex.Pattern.*;
-import static net.filebot.util.StringUtilities.*;
+import static net.filebot.subtitle.SubtitleTimeFormat.*;
 
-import java.text.DateFormat;
-import java.text.ParseException;
 import java.util.InputMismatchException;
-import java.util.Scanner;
-import java.util.regex.Pattern;
 
 public class SubViewerReader extends SubtitleReader {
 
-	private final DateFormat timeFormat = new SubtitleTimeFormat();
-	private final Pattern newline = compile(quote("[br]"), CASE_INSENSITIVE);
-
-	public SubViewerReader(Scanner scanner) {
-		super(scanner);
+	public SubViewerReader(CharSequence content) {
+		super(content);
 	}
 
 	@Override
 	protected SubtitleElement readNext() throws Exception {
 		// element starts with interval (e.g. 00:42:16.33,00:42:19.39)
-		String[] interval = scanner.nextLine().split(",", 2);
+		String line = lines.nextLine();
+		int comma = line.indexOf(',');
 
-		if (interval.length < 2 || interval[0].startsWith("[")) {
+		if (comma < 0 || line.startsWith("[")) {
 			// ignore property lines
 			return null;
 		}
 
 		try {
-			long t1 = timeFormat.parse(interval[0]).getTime();
-			long t2 = timeFormat.parse(interval[1]).getTime();
+			long t1 = parseHundredths(line.substring(0, comma));
+			long t2 = parseHundredths(line.substring(comma + 1));
 
 			// translate [br] to new lines
-			String[] lines = newline.split(scanner.nextLine());
-
-			return new SubtitleElement(t1, t2, join(lines, "\n"));
-		} catch (ParseException e) {
-			// can't parse interval, ignore line
-			return null;
+			return new SubtitleElement(t1, t2, resolveLineBreaks(lines.nextLine(), "[br]"));
 		} catch (InputMismatchException e) {
 			// can't parse interval, ignore line
 			return null;
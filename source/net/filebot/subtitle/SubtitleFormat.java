@@ -1,8 +1,6 @@
 
 package net.filebot.subtitle;
 
-import java.util.Scanner;
-
 import net.filebot.MediaTypes;
 import net.filebot.util.FileUtilities.ExtensionFileFilter;
 
@@ -12,7 +10,7 @@ public enum SubtitleFormat {
 
 		@Override
 		public SubtitleDecoder getDecoder() {
-			return content -> new SubRipReader(new Scanner(content)).stream();
+			return content -> new SubRipReader(content).stream();
 		}
 
 		@Override
@@ -25,7 +23,7 @@ public enum SubtitleFormat {
 
 		@Override
 		public SubtitleDecoder getDecoder() {
-			return content -> new MicroDVDReader(new Scanner(content)).stream();
+			return content -> new MicroDVDReader(content).stream();
 		}
 
 		@Override
@@ -38,7 +36,7 @@ public enum SubtitleFormat {
 
 		@Override
 		public SubtitleDecoder getDecoder() {
-			return content -> new SubViewerReader(new Scanner(content)).stream();
+			return content -> new SubViewerReader(content).stream();
 		}
 
 		@Override
@@ -51,7 +49,7 @@ public enum SubtitleFormat {
 
 		@Override
 		public SubtitleDecoder getDecoder() {
-			return content -> new SubStationAlphaReader(new Scanner(content)).stream();
+			return content -> new SubStationAlphaReader(content).stream();
 		}
 
 		@Override
@@ -0,0 +1,53 @@
+package net.filebot.subtitle;
+
+import java.nio.CharBuffer;
+import java.util.NoSuchElementException;
+
+/**
+ * Line tokenizer over the contents of a subtitle file. Line separators are the same as for {@link java.util.Scanner#nextLine()}.
+ */
+public class SubtitleLineReader {
+
+	private final CharBuffer buffer;
+	private int position = 0;
+
+	public SubtitleLineReader(CharSequence content) {
+		this.buffer = CharBuffer.wrap(content);
+	}
+
+	public boolean hasNextLine() {
+		return position < buffer.length();
+	}
+
+	public String nextLine() {
+		int length = buffer.length();
+		if (position >= length) {
+			throw new NoSuchElementException("No line found");
+		}
+
+		int start = position;
+		for (int i = start; i < length; i++) {
+			switch (buffer.get(i)) {
+			case '\r':
+				// \r\n is a single line separator
+				position = i + 1 < length && buffer.get(i + 1) == '\n' ? i + 2 : i + 1;
+				return line(start, i);
+			case '\n':
+			case '\u2028':
+			case '\u2029':
+			case '\u0085':
+				position = i + 1;
+				return line(start, i);
+			}
+		}
+
+		// last line without line separator
+		position = length;
+		return line(start, length);
+	}
+
+	private String line(int start, int end) {
+		return buffer.subSequence(start, end).toString();
+	}
+
+}
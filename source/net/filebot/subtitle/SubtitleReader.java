@@ -6,7 +6,6 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.Scanner;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.stream.Stream;
@@ -14,11 +13,11 @@ import java.util.stream.StreamSupport;
 
 public abstract class SubtitleReader implements Iterator<SubtitleElement>, Closeable {
 
-	protected Scanner scanner;
+	protected final SubtitleLineReader lines;
 	protected SubtitleElement current;
 
-	public SubtitleReader(Scanner scanner) {
-		this.scanner = scanner;
+	public SubtitleReader(CharSequence content) {
+		this.lines = new SubtitleLineReader(content);
 	}
 
 	protected abstract SubtitleElement readNext() throws Exception;
@@ -26,7 +25,7 @@ public abstract class SubtitleReader implements Iterator<SubtitleElement>, Close
 	@Override
 	public boolean hasNext() {
 		// find next element
-		while (current == null && scanner.hasNextLine()) {
+		while (current == null && lines.hasNextLine()) {
 			try {
 				current = readNext();
 			} catch (Exception e) {
@@ -52,7 +51,36 @@ public abstract class SubtitleReader implements Iterator<SubtitleElement>, Close
 
 	@Override
 	public void close() throws IOException {
-		scanner.close();
+		// nothing to release, content is held in memory
+	}
+
+	protected static String resolveLineBreaks(String text, String delimiter) {
+		StringBuilder sb = new StringBuilder(text.length());
+		int start = 0;
+		int length = 0;
+
+		// translate line break delimiters (case-insensitive) to new lines and ignore trailing empty lines
+		for (int i = 0; i <= text.length(); i++) {
+			boolean end = i == text.length();
+			if (end || text.regionMatches(true, i, delimiter, 0, delimiter.length())) {
+				if (start > 0) {
+					sb.append('\n');
+				}
+				sb.append(text, start, i);
+
+				if (i > start) {
+					length = sb.length();
+				}
+
+				if (!end) {
+					i += delimiter.length() - 1;
+					start = i + 1;
+				}
+			}
+		}
+
+		sb.setLength(length);
+		return sb.toString();
 	}
 
 	public Stream<SubtitleElement> stream() {
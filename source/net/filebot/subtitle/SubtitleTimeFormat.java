@@ -1,67 +1,81 @@
-
 package net.filebot.subtitle;
 
+import java.util.InputMismatchException;
 
-import java.text.DateFormat;
-import java.text.FieldPosition;
-import java.text.ParsePosition;
-import java.util.Calendar;
-import java.util.Date;
-import java.util.Locale;
-import java.util.TimeZone;
-import java.util.regex.Pattern;
-
+/**
+ * Parse and format subtitle time stamps without the overhead of {@link java.text.DateFormat}.
+ */
+final class SubtitleTimeFormat {
 
-class SubtitleTimeFormat extends DateFormat {
+	private static final long DAY = 24 * 60 * 60 * 1000;
 
-	public SubtitleTimeFormat() {
-		// calendar without any kind of special handling for time zone and daylight saving time
-		calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"), Locale.ROOT);
+	/**
+	 * Parse time stamps such as 00:02:26,407 (hours, minutes, seconds and milliseconds) and ignore any trailing characters
+	 */
+	public static long parseSubRip(CharSequence s) {
+		return parse(s, ":,", 1, false);
 	}
 
-
-	@Override
-	public StringBuffer format(Date date, StringBuffer sb, FieldPosition pos) {
-		// e.g. 1:42:52.42
-		calendar.setTime(date);
-
-		sb.append(String.format("%02d", calendar.get(Calendar.HOUR_OF_DAY)));
-		sb.append(':').append(String.format("%02d", calendar.get(Calendar.MINUTE)));
-		sb.append(':').append(String.format("%02d", calendar.get(Calendar.SECOND)));
-
-		String millis = String.format("%03d", calendar.get(Calendar.MILLISECOND));
-		sb.append('.').append(millis.substring(0, 2));
-
-		return sb;
+	/**
+	 * Parse time stamps such as 1:42:52.42 (hours, minutes, seconds and hundredth seconds)
+	 */
+	public static long parseHundredths(CharSequence s) {
+		return parse(s, ":.", 10, true);
 	}
 
+	private static long parse(CharSequence s, String delimiters, int fractionScale, boolean strict) {
+		long[] fields = new long[4];
+		int length = s.length();
+		int i = 0;
+
+		for (int f = 0; f < fields.length; f++) {
+			if (f > 0) {
+				if (i >= length || delimiters.indexOf(s.charAt(i)) < 0) {
+					throw new InputMismatchException("Illegal time stamp: " + s);
+				}
+				i++;
+			}
+
+			int start = i;
+			long value = 0;
+			for (char c; i < length && (c = s.charAt(i)) >= '0' && c <= '9'; i++) {
+				value = value * 10 + (c - '0');
+			}
+
+			if (i == start) {
+				throw new InputMismatchException("Illegal time stamp: " + s);
+			}
+			fields[f] = value;
+		}
 
-	private final Pattern delimiter = Pattern.compile("[:.]");
-
+		if (strict && i < length) {
+			throw new InputMismatchException("Illegal time stamp: " + s);
+		}
 
-	@Override
-	public Date parse(String source, ParsePosition pos) {
-		String[] split = delimiter.split(source, 4);
+		return ((fields[0] * 60 + fields[1]) * 60 + fields[2]) * 1000 + fields[3] * fractionScale;
+	}
 
-		// reset state
-		calendar.clear();
+	/**
+	 * Append time stamp as HH:mm:ss,SSS (hours of the day, minutes, seconds and milliseconds)
+	 */
+	public static StringBuilder formatSubRip(long millis, StringBuilder sb) {
+		long t = Math.floorMod(millis, DAY);
 
-		try {
-			// handle hours:minutes:seconds
-			calendar.set(Calendar.HOUR_OF_DAY, Integer.parseInt(split[0]));
-			calendar.set(Calendar.MINUTE, Integer.parseInt(split[1]));
-			calendar.set(Calendar.SECOND, Integer.parseInt(split[2]));
+		pad(sb, t / 3600000, 2).append(':');
+		pad(sb, t / 60000 % 60, 2).append(':');
+		pad(sb, t / 1000 % 60, 2).append(',');
+		return pad(sb, t % 1000, 3);
+	}
 
-			// handle hundredth seconds
-			calendar.set(Calendar.MILLISECOND, Integer.parseInt(split[3]) * 10);
-		} catch (Exception e) {
-			// cannot parse input
-			pos.setErrorIndex(0);
-			return null;
+	private static StringBuilder pad(StringBuilder sb, long value, int digits) {
+		for (long i = value < 10 ? 1 : value < 100 ? 2 : 3; i < digits; i++) {
+			sb.append('0');
 		}
+		return sb.append(value);
+	}
 
-		// update position
-		pos.setIndex(source.length());
-		return calendar.getTime();
+	private SubtitleTimeFormat() {
+		throw new UnsupportedOperationException();
 	}
+
 }
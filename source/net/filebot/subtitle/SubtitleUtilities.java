@@ -122,14 +122,14 @@ public final class SubtitleUtilities {
 					querySet.add(bySeries.getKey());
 				} else if (searchBySeries || searchByMovie) {
 					// remainder is most likely a movie, or a badly named tv series
+					Map<File, List<Movie>> movieOptions = detectMovies(files.stream().filter(f -> !isEpisode(f.getPath(), true)).collect(toList()), null, Locale.ENGLISH, strict);
+
 					for (File f : files) {
 						List<String> queries = new ArrayList<String>();
 
 						// might be a movie, auto-detect movie names
-						if (!isEpisode(f.getPath(), true)) {
-							for (Movie it : detectMovie(f, null, Locale.ENGLISH, strict)) {
-								queries.add(it.getName());
-							}
+						for (Movie it : movieOptions.getOrDefault(f, emptyList())) {
+							queries.add(it.getName());
 						}
 
 						if (queries.size() > 0) {
@@ -421,8 +421,10 @@ public final class SubtitleUtilities {
 	}
 
 	public static MemoryFile fetchSubtitle(SubtitleDescriptor descriptor) throws Exception {
-		ByteBuffer data = descriptor.fetch();
+		return decodeSubtitle(descriptor, descriptor.fetch());
+	}
 
+	public static MemoryFile decodeSubtitle(SubtitleDescriptor descriptor, ByteBuffer data) throws Exception {
 		// extract subtitles from archive
 		ArchiveType type = ArchiveType.forName(descriptor.getType());
 
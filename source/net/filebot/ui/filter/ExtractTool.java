@@ -1,6 +1,9 @@
 package net.filebot.ui.filter;
 
+import static java.util.Collections.*;
+import static java.util.stream.Collectors.*;
 import static net.filebot.Logging.*;
+import static net.filebot.Settings.*;
 import static net.filebot.UserFiles.*;
 import static net.filebot.util.FileUtilities.*;
 import static net.filebot.util.ui.SwingUI.*;
@@ -12,13 +15,21 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.logging.Level;
+import java.util.stream.IntStream;
 
 import javax.swing.Action;
 import javax.swing.JButton;
@@ -74,28 +85,71 @@ class ExtractTool extends Tool<TableModel> {
 
 	@Override
 	protected TableModel createModelInBackground(List<File> root) throws Exception {
+		return createModelInBackground(root, model -> {
+			// ignore intermediate models
+		});
+	}
+
+	@Override
+	protected TableModel createModelInBackground(List<File> root, Consumer<TableModel> partial) throws Exception {
 		if (root.isEmpty()) {
 			return new ArchiveEntryModel();
 		}
 
 		// ignore non-archives files and trailing multi-volume parts
 		List<File> files = listFiles(root, Archive.VOLUME_ONE_FILTER, HUMAN_NAME_ORDER);
-		List<ArchiveEntry> entries = new ArrayList<ArchiveEntry>();
+		List<List<ArchiveEntry>> entries = new ArrayList<List<ArchiveEntry>>(nCopies(files.size(), null));
+
+		// read archive headers in parallel
+		int threads = Math.min(getPreferredThreadPoolSize(), Math.max(1, files.size()));
+		AtomicInteger next = new AtomicInteger(0);
 
-		for (File file : files) {
-			try (Archive archive = Archive.open(file)) {
-				for (FileInfo it : archive.listFiles()) {
-					entries.add(new ArchiveEntry(file, it));
+		ExecutorService workerThreadPool = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> workers = IntStream.range(0, threads).mapToObj(t -> workerThreadPool.submit(() -> {
+				for (int f = next.getAndIncrement(); f < files.size() && !Thread.currentThread().isInterrupted(); f = next.getAndIncrement()) {
+					File file = files.get(f);
+					try {
+						List<ArchiveEntry> archive = Archive.listFiles(file).stream().map(it -> new ArchiveEntry(file, it)).collect(toList());
+						synchronized (entries) {
+							entries.set(f, archive);
+						}
+					} catch (Exception e) {
+						debug.warning(format("%s [%s]", e, file));
+					}
 				}
-			}
+			})).collect(toList());
 
-			// unwind thread, if we have been cancelled
-			if (Thread.interrupted()) {
-				throw new CancellationException();
+			// display archive entries as they complete
+			long lastUpdate = System.currentTimeMillis();
+			for (Future<?> worker : workers) {
+				while (true) {
+					try {
+						worker.get(PARTIAL_UPDATE_INTERVAL, TimeUnit.MILLISECONDS);
+						break;
+					} catch (TimeoutException e) {
+						if (System.currentTimeMillis() - lastUpdate >= PARTIAL_UPDATE_INTERVAL) {
+							partial.accept(createModel(entries));
+							lastUpdate = System.currentTimeMillis();
+						}
+					}
+				}
 			}
+		} catch (InterruptedException e) {
+			throw new CancellationException();
+		} finally {
+			workerThreadPool.shutdownNow();
 		}
 
-		return new ArchiveEntryModel(entries);
+		return createModel(entries);
+	}
+
+	private static final long PARTIAL_UPDATE_INTERVAL = 1000;
+
+	private static ArchiveEntryModel createModel(List<List<ArchiveEntry>> entries) {
+		synchronized (entries) {
+			return new ArchiveEntryModel(entries.stream().filter(Objects::nonNull).flatMap(List::stream).collect(toList()));
+		}
 	}
 
 	private Action extractAction = newAction("Extract All", ResourceManager.getIcon("package.extract"), evt -> {
@@ -1,9 +1,11 @@
 package net.filebot.ui.filter;
 
 import static java.util.Collections.*;
+import static java.util.stream.Collectors.*;
 import static javax.swing.BorderFactory.*;
 import static net.filebot.Logging.*;
 import static net.filebot.MediaTypes.*;
+import static net.filebot.Settings.*;
 import static net.filebot.util.FileUtilities.*;
 
 import java.awt.Color;
@@ -13,6 +15,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.IntStream;
 
@@ -52,7 +61,14 @@ class MediaInfoTool extends Tool<TableModel> {
 	}
 
 	@Override
-	protected TableModel createModelInBackground(List<File> root) {
+	protected TableModel createModelInBackground(List<File> root) throws Exception {
+		return createModelInBackground(root, model -> {
+			// ignore intermediate models
+		});
+	}
+
+	@Override
+	protected TableModel createModelInBackground(List<File> root, Consumer<TableModel> partial) throws Exception {
 		if (root.isEmpty()) {
 			return new MediaInfoTableModel();
 		}
@@ -60,34 +76,68 @@ class MediaInfoTool extends Tool<TableModel> {
 		List<File> files = listFiles(root, filter(VIDEO_FILES, AUDIO_FILES), HUMAN_NAME_ORDER);
 		Map<MediaInfoKey, String[]> data = new TreeMap<MediaInfoKey, String[]>();
 
-		try (MediaInfo mi = new MediaInfo()) {
-			IntStream.range(0, files.size()).forEach(f -> {
-				try {
-					mi.open(files.get(f));
-					mi.snapshot().forEach((kind, streams) -> {
-						IntStream.range(0, streams.size()).forEach(i -> {
-							streams.get(i).forEach((name, value) -> {
-								String[] values = data.computeIfAbsent(new MediaInfoKey(kind, i, name),
-										k -> new String[files.size()]);
-								values[f] = value;
-							});
-						});
-					});
-				} catch (IllegalArgumentException e) {
-					debug.finest(e::toString);
-				} catch (Exception e) {
-					debug.warning(e::toString);
+		// parse files in parallel with one MediaInfo handle per worker thread
+		int threads = Math.min(getPreferredThreadPoolSize(), Math.max(1, files.size()));
+		AtomicInteger next = new AtomicInteger(0);
+
+		ExecutorService workerThreadPool = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> workers = IntStream.range(0, threads).mapToObj(t -> workerThreadPool.submit(() -> {
+				try (MediaInfo mi = new MediaInfo()) {
+					for (int f = next.getAndIncrement(); f < files.size() && !Thread.currentThread().isInterrupted(); f = next.getAndIncrement()) {
+						try {
+							Map<StreamKind, List<Map<String, String>>> snapshot = MediaInfo.snapshot(files.get(f), mi);
+							synchronized (data) {
+								put(data, snapshot, f, files.size());
+							}
+						} catch (IllegalArgumentException e) {
+							debug.finest(e::toString);
+						} catch (Exception e) {
+							debug.warning(e::toString);
+						}
+					}
 				}
-
-				if (Thread.interrupted()) {
-					throw new CancellationException();
+			})).collect(toList());
+
+			// display rows as they complete
+			long lastUpdate = System.currentTimeMillis();
+			for (Future<?> worker : workers) {
+				while (true) {
+					try {
+						worker.get(PARTIAL_UPDATE_INTERVAL, TimeUnit.MILLISECONDS);
+						break;
+					} catch (TimeoutException e) {
+						if (System.currentTimeMillis() - lastUpdate >= PARTIAL_UPDATE_INTERVAL) {
+							synchronized (data) {
+								partial.accept(new MediaInfoTableModel(files, data));
+							}
+							lastUpdate = System.currentTimeMillis();
+						}
+					}
 				}
-			});
+			}
+		} catch (InterruptedException e) {
+			throw new CancellationException();
+		} finally {
+			workerThreadPool.shutdownNow();
 		}
 
 		return new MediaInfoTableModel(data.isEmpty() ? emptyList() : files, data);
 	}
 
+	private static final long PARTIAL_UPDATE_INTERVAL = 1000;
+
+	private static void put(Map<MediaInfoKey, String[]> data, Map<StreamKind, List<Map<String, String>>> snapshot, int row, int rowCount) {
+		snapshot.forEach((kind, streams) -> {
+			IntStream.range(0, streams.size()).forEach(i -> {
+				streams.get(i).forEach((name, value) -> {
+					String[] values = data.computeIfAbsent(new MediaInfoKey(kind, i, name), k -> new String[rowCount]);
+					values[row] = value;
+				});
+			});
+		});
+	}
+
 	@Override
 	protected void setModel(TableModel model) {
 		table.setModel(model);
@@ -164,7 +214,7 @@ class MediaInfoTool extends Tool<TableModel> {
 
 		public MediaInfoTableModel(List<File> files, Map<MediaInfoKey, String[]> values) {
 			this.keys = values.keySet().toArray(new MediaInfoKey[0]);
-			this.values = values.values().toArray(new String[0][]);
+			this.values = values.values().stream().map(String[]::clone).toArray(String[][]::new);
 			this.files = files.stream().map(File::getName).toArray(String[]::new);
 			this.columnClass = new Class<?>[getColumnCount()];
 		}
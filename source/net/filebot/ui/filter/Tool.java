@@ -10,6 +10,7 @@ import java.io.File;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 
 import javax.swing.JComponent;
@@ -54,9 +55,16 @@ abstract class Tool<M> extends JComponent {
 
 	protected abstract M createModelInBackground(List<File> root) throws Exception;
 
+	/**
+	 * Create model and optionally publish intermediate models while loading is still in progress
+	 */
+	protected M createModelInBackground(List<File> root, Consumer<M> partial) throws Exception {
+		return createModelInBackground(root);
+	}
+
 	protected abstract void setModel(M model);
 
-	private class UpdateModelTask extends SwingWorker<M, Void> {
+	private class UpdateModelTask extends SwingWorker<M, M> {
 
 		private final List<File> root;
 
@@ -66,7 +74,15 @@ abstract class Tool<M> extends JComponent {
 
 		@Override
 		protected M doInBackground() throws Exception {
-			return createModelInBackground(root);
+			return createModelInBackground(root, this::publish);
+		}
+
+		@Override
+		protected void process(List<M> chunks) {
+			// display latest intermediate model unless a newer update task has been started
+			if (this == updateTask && !isCancelled() && !isDone()) {
+				setModel(chunks.get(chunks.size() - 1));
+			}
 		}
 
 		@Override
@@ -1,8 +1,12 @@
 package net.filebot.util;
 
 import java.text.Collator;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class AlphanumComparator implements Comparator<String> {
 
@@ -102,4 +106,121 @@ public class AlphanumComparator implements Comparator<String> {
 		return Integer.signum(result);
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Create a sort key that can be compared with other sort keys of this comparator much faster than comparing the original strings, i.e. getSortKey(s1).compareTo(getSortKey(s2)) always yields the
+	 * same result as compare(s1, s2).
+	 */
+	public SortKey getSortKey(String s) {
+		List<byte[]> collationKeys = new ArrayList<byte[]>();
+		List<byte[]> numbers = new ArrayList<byte[]>();
+		List<Integer> zeros = new ArrayList<Integer>();
+
+		for (int index = 0; index < s.length();) {
+			String chunk = getChunk(s, index);
+			index += chunk.length();
+
+			collationKeys.add(getCollationKey(chunk));
+
+			if (isDigit(chunk, 0)) {
+				// count and skip leading zeros
+				int zeroIndex = 0;
+				while (zeroIndex < chunk.length() && getNumericValue(chunk, zeroIndex) == 0) {
+					++zeroIndex;
+				}
+
+				byte[] digits = new byte[chunk.length() - zeroIndex];
+				for (int i = 0; i < digits.length; i++) {
+					digits[i] = (byte) getNumericValue(chunk, zeroIndex + i);
+				}
+
+				numbers.add(digits);
+				zeros.add(zeroIndex);
+			} else {
+				numbers.add(null);
+				zeros.add(0);
+			}
+		}
+
+		return new SortKey(s.length(), collationKeys.toArray(new byte[0][]), numbers.toArray(new byte[0][]), zeros.stream().mapToInt(Integer::intValue).toArray());
+	}
+
+	// file names usually share many chunks (e.g. release group, video format, extension) so we can reuse collation keys
+	private final Map<String, byte[]> collationKeyCache = new ConcurrentHashMap<String, byte[]>();
+
+	private byte[] getCollationKey(String chunk) {
+		byte[] key = collationKeyCache.get(chunk);
+		if (key == null) {
+			if (collationKeyCache.size() > 10000) {
+				collationKeyCache.clear();
+			}
+			key = collator.getCollationKey(chunk).toByteArray();
+			collationKeyCache.put(chunk, key);
+		}
+		return key;
+	}
+
+	public static final class SortKey implements Comparable<SortKey> {
+
+		private final int length;
+
+		// collation key for each chunk
+		private final byte[][] collationKeys;
+
+		// digits without leading zeros for numeric chunks or null for text chunks
+		private final byte[][] numbers;
+		private final int[] zeros;
+
+		private SortKey(int length, byte[][] collationKeys, byte[][] numbers, int[] zeros) {
+			this.length = length;
+			this.collationKeys = collationKeys;
+			this.numbers = numbers;
+			this.zeros = zeros;
+		}
+
+		@Override
+		public int compareTo(SortKey other) {
+			int chunks = Math.min(numbers.length, other.numbers.length);
+			int result = 0;
+
+			for (int i = 0; result == 0 && i < chunks; i++) {
+				byte[] n1 = numbers[i];
+				byte[] n2 = other.numbers[i];
+
+				if (n1 != null && n2 != null) {
+					// the longer run of non-zero digits is greater
+					result = n1.length - n2.length;
+
+					// if the length is the same, the first differing digit decides which one is deemed greater
+					for (int j = 0; result == 0 && j < n1.length; j++) {
+						result = n1[j] - n2[j];
+					}
+
+					// if still no difference, the longer zeros-prefix is greater
+					if (result == 0) {
+						result = zeros[i] - other.zeros[i];
+					}
+				} else {
+					result = compareUnsigned(collationKeys[i], other.collationKeys[i]);
+				}
+			}
+
+			// if there was no difference at all, let the longer one be the greater one
+			if (result == 0) {
+				result = length - other.length;
+			}
+
+			return Integer.signum(result);
+		}
+
+		private static int compareUnsigned(byte[] b1, byte[] b2) {
+			int length = Math.min(b1.length, b2.length);
+			for (int i = 0; i < length; i++) {
+				if (b1[i] != b2[i]) {
+					return (b1[i] & 0xFF) - (b2[i] & 0xFF);
+				}
+			}
+			return b1.length - b2.length;
+		}
+	}
+
+}
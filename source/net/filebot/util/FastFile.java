@@ -5,12 +5,22 @@ import static java.util.Arrays.*;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.DosFileAttributes;
+import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.List;
 
 public class FastFile extends File {
 
 	private static final long UNDEFINED = -1;
 
+	// hidden flag is a file attribute on Windows but a naming convention on all other platforms
+	private static final Class<? extends BasicFileAttributes> FILE_ATTRIBUTES = File.separatorChar == '\\' ? DosFileAttributes.class : BasicFileAttributes.class;
+
 	public static final int HIDDEN = 0;
 	public static final int DIRECTORY = 1;
 	public static final int FILE = 2;
@@ -32,6 +42,16 @@ public class FastFile extends File {
 
 	public FastFile(File file) {
 		super(file.getPath());
+
+		// reuse previously retrieved file attributes
+		if (file instanceof FastFile) {
+			FastFile f = (FastFile) file;
+			this.stats = f.stats;
+			this.name = f.name;
+			this.length = f.length;
+			this.lastModified = f.lastModified;
+			this.parentFile = f.parentFile;
+		}
 	}
 
 	public FastFile(File parentFile, String name) {
@@ -41,6 +61,27 @@ public class FastFile extends File {
 		this.name = name;
 	}
 
+	public FastFile(File parentFile, String name, BasicFileAttributes attributes) {
+		this(parentFile, name);
+
+		this.stats = new BitSet(3);
+		this.stats.set(HIDDEN, attributes instanceof DosFileAttributes ? ((DosFileAttributes) attributes).isHidden() : name.startsWith("."));
+
+		if (attributes.isRegularFile()) {
+			this.stats.set(FILE);
+			this.length = attributes.size();
+		} else if (attributes.isDirectory()) {
+			this.stats.set(DIRECTORY);
+		}
+
+		this.lastModified = attributes.lastModifiedTime().toMillis();
+	}
+
+	public FastFile(File parentFile, String name, BitSet stats) {
+		this(parentFile, name);
+		this.stats = stats;
+	}
+
 	public boolean stats(int bitIndex) {
 		if (stats == null) {
 			stats = new BitSet(3);
@@ -117,7 +158,24 @@ public class FastFile extends File {
 			return listFiles;
 		}
 
-		return (listFiles = stream(list()).map(s -> new FastFile(this, s)).toArray(File[]::new));
+		List<File> files = new ArrayList<File>();
+
+		// read file attributes while listing the folder so that each file is only accessed once
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(toPath())) {
+			for (Path path : stream) {
+				String name = path.getFileName().toString();
+				try {
+					files.add(new FastFile(this, name, Files.readAttributes(path, FILE_ATTRIBUTES)));
+				} catch (Exception e) {
+					files.add(new FastFile(this, name)); // e.g. broken symlink
+				}
+			}
+		} catch (Exception e) {
+			// folder does not exist or permissions do not allow listing of files
+		}
+
+		list = files.stream().map(File::getName).toArray(String[]::new);
+		return (listFiles = files.toArray(new File[0]));
 	}
 
 	@Override
@@ -4,6 +4,7 @@ import static java.nio.charset.StandardCharsets.*;
 import static java.util.Arrays.*;
 import static java.util.Collections.*;
 import static java.util.Comparator.*;
+import static java.util.stream.Collectors.*;
 import static net.filebot.Logging.*;
 import static net.filebot.util.RegularExpressions.*;
 
@@ -33,6 +34,7 @@ import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -43,9 +45,13 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.logging.Level;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -517,7 +523,7 @@ public final class FileUtilities {
 		}
 
 		if (order != null) {
-			sort(files, order);
+			return sorted(stream(files), order).collect(toList());
 		}
 
 		return asList(files);
@@ -538,30 +544,77 @@ public final class FileUtilities {
 	}
 
 	public static List<File> listFiles(File[] files, int depth, FileFilter filter, Comparator<File> order) {
+		return listFiles(files, depth, filter, order, false);
+	}
+
+	/**
+	 * Same as {@link #listFiles(File[], int, FileFilter, Comparator)} but return read-only {@link FastFile} objects that carry the file attributes that were retrieved while listing the folders.
+	 */
+	public static List<File> listFastFiles(Collection<File> folders, FileFilter filter, Comparator<File> order) {
+		return listFiles(folders.toArray(new File[0]), FILE_WALK_MAX_DEPTH, filter, order, true);
+	}
+
+	private static List<File> listFiles(File[] files, int depth, FileFilter filter, Comparator<File> order, boolean fast) {
+		// list folders in parallel, but apply the given filter and order on the calling thread since they are not required to be thread-safe
+		Map<File, File[]> tree = new ConcurrentHashMap<File, File[]>();
+		FILE_WALK_POOL.invoke(new ListFolderTask(null, files, depth, tree));
+
 		List<File> sink = new ArrayList<File>();
+		collectFiles(files, tree, filter, order, fast, true, sink);
+		return sink;
+	}
 
+	private static void collectFiles(File[] children, Map<File, File[]> tree, FileFilter filter, Comparator<File> order, boolean fast, boolean root, List<File> sink) {
 		// traverse file tree recursively
-		streamFiles(files, FOLDERS, order).forEach(f -> listFiles(f, sink, depth, filter, order));
+		streamFiles(children, FOLDERS, order).forEach(f -> collectFiles(tree.get(f), tree, filter, order, fast, false, sink));
 
 		// add selected files in preferred order
-		streamFiles(files, filter, order).forEach(sink::add);
-
-		return sink;
+		streamFiles(children, filter, order).map(f -> fast || root ? f : new File(f.getPath())).forEach(sink::add);
 	}
 
-	private static void listFiles(File folder, List<File> sink, int depth, FileFilter filter, Comparator<File> order) {
-		if (depth < 0) {
-			return;
+	// folders are listed in parallel since listing files on network shares is mostly waiting for I/O
+	private static final ForkJoinPool FILE_WALK_POOL = new ForkJoinPool(Math.max(8, Runtime.getRuntime().availableProcessors()));
+
+	private static class ListFolderTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final File folder;
+		private final File[] files;
+		private final int depth;
+		private final Map<File, File[]> tree;
+
+		public ListFolderTask(File folder, File[] files, int depth, Map<File, File[]> tree) {
+			this.folder = folder;
+			this.files = files;
+			this.depth = depth;
+			this.tree = tree;
 		}
 
-		// children array may be null if folder permissions do not allow listing of files
-		File[] files = folder.listFiles(NOT_HIDDEN);
+		@Override
+		protected void compute() {
+			if (folder != null && depth < 0) {
+				return;
+			}
 
-		// traverse file tree recursively
-		streamFiles(files, FOLDERS, order).forEach(f -> listFiles(f, sink, depth - 1, filter, order));
+			// top-level files as given, or the non-hidden children of the given folder
+			File[] children = files;
+			if (folder != null) {
+				children = stream(listFolder(folder)).filter(NOT_HIDDEN::accept).toArray(File[]::new);
+				tree.put(folder, children);
+			}
 
-		// add selected files in preferred order
-		streamFiles(files, filter, order).forEach(sink::add);
+			int childDepth = folder == null ? depth : depth - 1;
+			invokeAll(streamFiles(children, FOLDERS, null).map(f -> new ListFolderTask(f, null, childDepth, tree)).collect(toList()));
+		}
+	}
+
+	private static File[] listFolder(File folder) {
+		// use persistent folder index if enabled
+		if (FolderIndex.isEnabled()) {
+			return FolderIndex.listFiles(folder);
+		}
+		return FastFile.get(folder).listFiles();
 	}
 
 	private static Stream<File> streamFiles(File[] files, FileFilter filter, Comparator<File> order) {
@@ -572,7 +625,7 @@ public final class FileUtilities {
 		if (order == null) {
 			return stream(files).filter(filter::accept);
 		} else {
-			return stream(files).filter(filter::accept).sorted(order);
+			return sorted(stream(files).filter(filter::accept), order);
 		}
 	}
 
@@ -893,7 +946,17 @@ public final class FileUtilities {
 
 	public static final Comparator<File> CASE_INSENSITIVE_PATH_ORDER = comparing(File::getPath, String.CASE_INSENSITIVE_ORDER);
 
-	public static final Comparator<File> HUMAN_NAME_ORDER = comparing(File::getName, new AlphanumComparator(Locale.ENGLISH));
+	private static final AlphanumComparator HUMAN_NAME_COMPARATOR = new AlphanumComparator(Locale.ENGLISH);
+
+	public static final Comparator<File> HUMAN_NAME_ORDER = comparing(File::getName, HUMAN_NAME_COMPARATOR);
+
+	private static Stream<File> sorted(Stream<File> files, Comparator<File> order) {
+		if (order == HUMAN_NAME_ORDER) {
+			// compute sort key once per file instead of parsing both file names for each comparison
+			return files.map(f -> new SimpleImmutableEntry<AlphanumComparator.SortKey, File>(HUMAN_NAME_COMPARATOR.getSortKey(f.getName()), f)).sorted(Entry.comparingByKey()).map(Entry::getValue);
+		}
+		return files.sorted(order);
+	}
 
 	/**
 	 * Dummy constructor to prevent instantiation.
@@ -0,0 +1,95 @@
+package net.filebot.util;
+
+import static net.filebot.Logging.*;
+
+import java.io.File;
+import java.util.BitSet;
+
+import net.filebot.Cache;
+import net.filebot.CacheType;
+
+/**
+ * Persistent index of folder listings, so that repeated scans of the same library roots do not need to read folders that have not changed since the previous scan.
+ * <p>
+ * Each folder is keyed by its path and stores the folder modification time along with the name, type and hidden flag of each child. A folder is only read again if its modification time has
+ * changed, i.e. if children have been added, removed or renamed. File attributes such as length and modification time are not stored, because these may change without the folder changing.
+ */
+public class FolderIndex {
+
+	private static final SystemProperty<Boolean> enabled = SystemProperty.of("net.filebot.util.FolderIndex", Boolean::parseBoolean, false);
+
+	// folders that have been modified very recently may be modified again without changing the folder modification time
+	private static final long MODIFICATION_TIME_GRANULARITY = 2000;
+
+	private static final byte HIDDEN = 1;
+	private static final byte DIRECTORY = 2;
+	private static final byte FILE = 4;
+
+	public static boolean isEnabled() {
+		return enabled.get();
+	}
+
+	public static File[] listFiles(File folder) {
+		return new FolderIndex(Cache.getCache("folders", CacheType.Persistent)).list(folder);
+	}
+
+	private final Cache cache;
+
+	public FolderIndex(Cache cache) {
+		this.cache = cache;
+	}
+
+	public File[] list(File folder) {
+		FastFile parent = FastFile.get(folder);
+		String key = folder.getPath();
+		long lastModified = folder.lastModified();
+
+		// reuse previous listing if the folder has not changed
+		Object value = cache.get(key);
+		if (value instanceof Object[]) {
+			Object[] entry = (Object[]) value;
+			if (entry.length == 3 && entry[0].equals(lastModified)) {
+				return decode(parent, (String[]) entry[1], (byte[]) entry[2]);
+			}
+		}
+
+		File[] files = parent.listFiles();
+
+		if (lastModified > 0 && lastModified < System.currentTimeMillis() - MODIFICATION_TIME_GRANULARITY) {
+			try {
+				cache.put(key, encode(lastModified, files));
+			} catch (Exception e) {
+				debug.finest(format("Failed to index folder: %s [%s]", e, folder));
+			}
+		}
+
+		return files;
+	}
+
+	private Object[] encode(long lastModified, File[] files) {
+		String[] names = new String[files.length];
+		byte[] stats = new byte[files.length];
+
+		for (int i = 0; i < files.length; i++) {
+			names[i] = files[i].getName();
+			stats[i] = (byte) ((files[i].isHidden() ? HIDDEN : 0) | (files[i].isDirectory() ? DIRECTORY : 0) | (files[i].isFile() ? FILE : 0));
+		}
+
+		return new Object[] { lastModified, names, stats };
+	}
+
+	private File[] decode(FastFile parent, String[] names, byte[] stats) {
+		File[] files = new File[names.length];
+
+		for (int i = 0; i < names.length; i++) {
+			BitSet bits = new BitSet(3);
+			bits.set(FastFile.HIDDEN, (stats[i] & HIDDEN) != 0);
+			bits.set(FastFile.DIRECTORY, (stats[i] & DIRECTORY) != 0);
+			bits.set(FastFile.FILE, (stats[i] & FILE) != 0);
+			files[i] = new FastFile(parent, names[i], bits);
+		}
+
+		return files;
+	}
+
+}
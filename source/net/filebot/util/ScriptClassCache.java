@@ -0,0 +1,268 @@
+package net.filebot.util;
+
+import static java.nio.charset.StandardCharsets.*;
+import static java.util.Collections.*;
+import static net.filebot.Logging.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.codehaus.groovy.ast.ClassNode;
+import org.codehaus.groovy.control.CompilationUnit;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.SourceUnit;
+
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovyCodeSource;
+import groovy.lang.GroovySystem;
+import net.filebot.Settings;
+
+/**
+ * Persistent cache of compiled Groovy script classes. Each script is compiled once and the generated bytecode is stored as a small jar file keyed by the script content and the compiler
+ * configuration, so that subsequent runs can load the script classes directly without parsing and compiling the script again.
+ */
+public class ScriptClassCache {
+
+	private static final String CODE_BASE = "/groovy/script";
+	private static final Duration MAX_IDLE_TIME = Duration.ofDays(30);
+
+	private static final String MAC_ALGORITHM = "HmacSHA256";
+	private static final Attributes.Name MAC_ATTRIBUTE = new Attributes.Name("Script-Class-MAC");
+
+	private final File folder;
+	private final CompilerConfiguration config;
+	private final String fingerprint;
+	private final SecretKeySpec secret;
+
+	private boolean pruned = false;
+
+	public ScriptClassCache(File folder, CompilerConfiguration config, String fingerprint) {
+		this(folder, config, fingerprint, getDefaultSecret());
+	}
+
+	public ScriptClassCache(File folder, CompilerConfiguration config, String fingerprint, byte[] secret) {
+		this.folder = folder;
+		this.config = config;
+		this.fingerprint = GroovySystem.getVersion() + "\n" + fingerprint;
+		this.secret = new SecretKeySpec(secret, MAC_ALGORITHM);
+	}
+
+	public Class<?> getScriptClass(String script, ClassLoader parent) throws Exception {
+		String key = hash(script);
+		File file = new File(folder, key + ".jar");
+
+		if (file.isFile()) {
+			try {
+				Class<?> c = load(file, parent);
+				file.setLastModified(System.currentTimeMillis());
+				return c;
+			} catch (Exception | LinkageError e) {
+				debug.warning(format("Failed to load compiled script: %s [%s]", e, file));
+			}
+		}
+
+		// compile script and record all generated classes
+		RecordingClassLoader compiler = new RecordingClassLoader(parent, config);
+		Class<?> c = compiler.parseClass(new GroovyCodeSource(script, "Script" + key.substring(0, 16) + ".groovy", CODE_BASE), false);
+
+		try {
+			store(file, c.getName(), compiler.getClasses());
+			prune();
+		} catch (Exception e) {
+			debug.warning(format("Failed to store compiled script: %s [%s]", e, file));
+		}
+
+		return c;
+	}
+
+	protected String hash(String script) throws NoSuchAlgorithmException {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		digest.update(fingerprint.getBytes(UTF_8));
+		digest.update((byte) 0);
+		digest.update(script.getBytes(UTF_8));
+
+		StringBuilder hex = new StringBuilder(64);
+		for (byte b : digest.digest()) {
+			hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return hex.toString();
+	}
+
+	protected String mac(Map<String, byte[]> classes) throws GeneralSecurityException {
+		Mac mac = Mac.getInstance(MAC_ALGORITHM);
+		mac.init(secret);
+
+		for (String name : new TreeSet<String>(classes.keySet())) {
+			mac.update(name.getBytes(UTF_8));
+			mac.update((byte) 0);
+			mac.update(classes.get(name));
+		}
+
+		return Base64.getEncoder().encodeToString(mac.doFinal());
+	}
+
+	protected Class<?> load(File file, ClassLoader parent) throws IOException, GeneralSecurityException, ClassNotFoundException {
+		Map<String, byte[]> classes = new HashMap<String, byte[]>();
+		String mainClass;
+		String mac;
+
+		try (JarFile jar = new JarFile(file, false)) {
+			mainClass = jar.getManifest().getMainAttributes().getValue(Attributes.Name.MAIN_CLASS);
+			mac = jar.getManifest().getMainAttributes().getValue(MAC_ATTRIBUTE);
+
+			for (JarEntry entry : list(jar.entries())) {
+				String name = entry.getName();
+				if (name.endsWith(".class")) {
+					ByteBufferOutputStream buffer = new ByteBufferOutputStream(entry.getSize() > 0 ? entry.getSize() : 8192);
+					try (InputStream in = jar.getInputStream(entry)) {
+						buffer.transferFully(in);
+					}
+					classes.put(name.substring(0, name.length() - 6).replace('/', '.'), buffer.getByteArray());
+				}
+			}
+		}
+
+		// only load classes that have been compiled by this user
+		if (mac == null || !MessageDigest.isEqual(mac.getBytes(UTF_8), mac(classes).getBytes(UTF_8))) {
+			throw new SecurityException("BAD signature: " + file);
+		}
+
+		if (mainClass == null || !classes.containsKey(mainClass)) {
+			throw new ClassNotFoundException("Main class not found: " + file);
+		}
+
+		return new PrecompiledClassLoader(parent, classes).loadClass(mainClass);
+	}
+
+	protected void store(File file, String mainClass, Map<String, byte[]> classes) throws IOException, GeneralSecurityException {
+		Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, mainClass);
+		manifest.getMainAttributes().put(MAC_ATTRIBUTE, mac(classes));
+
+		Files.createDirectories(folder.toPath());
+		File temp = File.createTempFile("script", ".jar", folder);
+
+		try {
+			try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(temp.toPath()), manifest)) {
+				for (Map.Entry<String, byte[]> it : classes.entrySet()) {
+					jar.putNextEntry(new JarEntry(it.getKey().replace('.', '/') + ".class"));
+					jar.write(it.getValue());
+					jar.closeEntry();
+				}
+			}
+
+			// replace atomically so that concurrent processes never see incomplete files
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp.toPath());
+		}
+	}
+
+	protected synchronized void prune() {
+		if (pruned) {
+			return;
+		}
+		pruned = true;
+
+		// remove compiled scripts that have not been used in a long time
+		long limit = System.currentTimeMillis() - MAX_IDLE_TIME.toMillis();
+		File[] files = folder.listFiles((dir, name) -> name.endsWith(".jar"));
+
+		if (files != null) {
+			for (File f : files) {
+				if (f.lastModified() < limit && !f.delete()) {
+					debug.finest(format("Failed to delete %s", f));
+				}
+			}
+		}
+	}
+
+	private static byte[] defaultSecret;
+
+	/**
+	 * Random per-user key for signing compiled script classes. The key is kept in the user preferences, so that a writable cache folder is not enough to inject classes.
+	 */
+	public static synchronized byte[] getDefaultSecret() {
+		if (defaultSecret == null) {
+			Settings settings = Settings.forPackage(ScriptClassCache.class);
+			String key = settings.get("script.class.cache.key");
+
+			if (key == null) {
+				byte[] bytes = new byte[32];
+				new SecureRandom().nextBytes(bytes);
+				key = Base64.getEncoder().encodeToString(bytes);
+				settings.put("script.class.cache.key", key);
+			}
+
+			defaultSecret = Base64.getDecoder().decode(key);
+		}
+		return defaultSecret;
+	}
+
+	private static class RecordingClassLoader extends GroovyClassLoader {
+
+		private final Map<String, byte[]> classes = new LinkedHashMap<String, byte[]>();
+
+		public RecordingClassLoader(ClassLoader parent, CompilerConfiguration config) {
+			super(parent, config);
+		}
+
+		public Map<String, byte[]> getClasses() {
+			return classes;
+		}
+
+		@Override
+		protected ClassCollector createCollector(CompilationUnit unit, SourceUnit su) {
+			return new ClassCollector(new InnerLoader(this), unit, su) {
+
+				@Override
+				protected Class<?> createClass(byte[] code, ClassNode classNode) {
+					classes.put(classNode.getName(), code);
+					return super.createClass(code, classNode);
+				}
+			};
+		}
+	}
+
+	private static class PrecompiledClassLoader extends ClassLoader {
+
+		private final Map<String, byte[]> classes;
+
+		public PrecompiledClassLoader(ClassLoader parent, Map<String, byte[]> classes) {
+			super(parent);
+			this.classes = classes;
+		}
+
+		@Override
+		protected Class<?> findClass(String name) throws ClassNotFoundException {
+			byte[] code = classes.remove(name);
+			if (code == null) {
+				throw new ClassNotFoundException(name);
+			}
+			return defineClass(name, code, 0, code.length);
+		}
+	}
+
+}
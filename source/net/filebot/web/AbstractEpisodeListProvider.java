@@ -2,11 +2,16 @@ package net.filebot.web;
 
 import static java.util.Arrays.*;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Locale;
 
 import net.filebot.Cache;
+import net.filebot.CacheCodec;
 import net.filebot.Cache.TypedCache;
 import net.filebot.CacheType;
 
@@ -73,7 +78,9 @@ public abstract class AbstractEpisodeListProvider implements EpisodeListProvider
 		return getCache("data_" + order.ordinal() + "_" + language).cast(SeriesData.class);
 	}
 
-	protected static class SeriesData implements Serializable {
+	public static class SeriesData implements Serializable {
+
+		private static final long serialVersionUID = 2L;
 
 		public SeriesInfo seriesInfo;
 		public Episode[] episodeList;
@@ -95,6 +102,28 @@ public abstract class AbstractEpisodeListProvider implements EpisodeListProvider
 			return asList(episodeList.clone());
 		}
 
+		private void writeObject(ObjectOutputStream out) throws IOException {
+			// use compact binary encoding with shared series info instead of default serialization
+			byte[] data = CacheCodec.encode(this);
+			out.writeInt(CacheCodec.VERSION);
+			out.writeInt(data.length);
+			out.write(data);
+		}
+
+		private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+			int version = in.readInt();
+			if (version != CacheCodec.VERSION) {
+				throw new IOException("Incompatible encoding: " + version);
+			}
+
+			byte[] data = new byte[in.readInt()];
+			in.readFully(data);
+
+			SeriesData value = (SeriesData) CacheCodec.decode(ByteBuffer.wrap(data));
+			this.seriesInfo = value.seriesInfo;
+			this.episodeList = value.episodeList;
+		}
+
 	}
 
 }
@@ -1,10 +1,11 @@
 package net.filebot.web;
 
 import static java.nio.charset.StandardCharsets.*;
+import static java.util.Collections.*;
 import static net.filebot.Logging.*;
+import static net.filebot.Settings.*;
 import static net.filebot.util.JsonUtilities.*;
 import static net.filebot.util.RegularExpressions.*;
-import static net.filebot.web.WebRequest.*;
 
 import java.io.File;
 import java.io.IOException;
@@ -12,19 +13,28 @@ import java.io.InputStreamReader;
 import java.lang.ProcessBuilder.Redirect;
 import java.lang.reflect.Field;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Scanner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 import javax.swing.Icon;
 
+import com.cedarsoftware.util.io.JsonWriter;
+
 import net.filebot.Cache;
 import net.filebot.CacheType;
 import net.filebot.ResourceManager;
@@ -57,52 +67,157 @@ public class AcoustIDClient implements MusicIdentificationService {
 	public Map<File, AudioTrack> lookup(Collection<File> files) throws Exception {
 		Map<File, AudioTrack> results = new LinkedHashMap<File, AudioTrack>();
 
-		for (File file : files) {
-			Map<ChromaprintField, String> fp = fpcalc(file);
+		// run multiple fpcalc processes in parallel
+		ExecutorService workerThreadPool = Executors.newFixedThreadPool(getPreferredThreadPoolSize());
+		try {
+			Map<File, Future<Map<ChromaprintField, String>>> fingerprints = new LinkedHashMap<File, Future<Map<ChromaprintField, String>>>();
+			for (File file : files) {
+				fingerprints.put(file, workerThreadPool.submit(() -> fpcalc(file)));
+			}
+
+			// look up fingerprints in batches while the remaining files are still being processed
+			Map<File, Map<ChromaprintField, String>> batch = new LinkedHashMap<File, Map<ChromaprintField, String>>();
 
-			// sanity check
-			if (!fp.containsKey(ChromaprintField.DURATION) || !fp.containsKey(ChromaprintField.FINGERPRINT))
-				continue;
+			for (Entry<File, Future<Map<ChromaprintField, String>>> it : fingerprints.entrySet()) {
+				Map<ChromaprintField, String> fp = getFingerprint(it.getValue());
 
-			int duration = Integer.parseInt(fp.get(ChromaprintField.DURATION));
-			String fingerprint = fp.get(ChromaprintField.FINGERPRINT);
+				// sanity check
+				if (!fp.containsKey(ChromaprintField.DURATION) || !fp.containsKey(ChromaprintField.FINGERPRINT))
+					continue;
 
-			// sanity check
-			if (duration < 10)
-				continue;
+				// sanity check
+				if (Integer.parseInt(fp.get(ChromaprintField.DURATION)) < 10)
+					continue;
 
-			String response = lookup(duration, fingerprint);
-			if (response != null && response.length() > 0) {
-				results.put(file, parseResult(lookup(duration, fingerprint), duration));
+				batch.put(it.getKey(), fp);
+
+				if (batch.size() >= LOOKUP_BATCH_SIZE) {
+					results.putAll(lookup(batch));
+					batch.clear();
+				}
 			}
+
+			results.putAll(lookup(batch));
+		} finally {
+			workerThreadPool.shutdownNow();
 		}
 
 		return results;
 	}
 
-	public String lookup(int duration, String fingerprint) throws Exception {
+	private Map<ChromaprintField, String> getFingerprint(Future<Map<ChromaprintField, String>> future) throws Exception {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception) {
+				throw (Exception) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	private static final int LOOKUP_BATCH_SIZE = 20;
+
+	protected Map<File, AudioTrack> lookup(Map<File, Map<ChromaprintField, String>> fingerprints) throws Exception {
+		Map<File, AudioTrack> results = new LinkedHashMap<File, AudioTrack>();
+		List<File> remaining = new ArrayList<File>();
+
+		// use cached responses if possible
+		for (Entry<File, Map<ChromaprintField, String>> it : fingerprints.entrySet()) {
+			int duration = Integer.parseInt(it.getValue().get(ChromaprintField.DURATION));
+			String response = (String) getCache().get(getLookupParameters(duration, it.getValue().get(ChromaprintField.FINGERPRINT)).toString());
+
+			if (response == null) {
+				remaining.add(it.getKey());
+			} else if (response.length() > 0) {
+				results.put(it.getKey(), parseResult(response, duration));
+			}
+		}
+
+		// batch lookup (e.g. duration.0=641&fingerprint.0=AQAB...&duration.1=...)
+		if (remaining.size() > 1) {
+			Map<String, String> postParam = new LinkedHashMap<String, String>();
+			for (int i = 0; i < remaining.size(); i++) {
+				postParam.put("duration." + i, fingerprints.get(remaining.get(i)).get(ChromaprintField.DURATION));
+				postParam.put("fingerprint." + i, fingerprints.get(remaining.get(i)).get(ChromaprintField.FINGERPRINT));
+			}
+
+			Object data = readJson(post(postParam));
+
+			String status = getString(data, "status");
+			if (!"ok".equals(status)) {
+				throw new IOException(String.format("%s responded with error: %s", getName(), status));
+			}
+
+			for (Object fp : getArray(data, "fingerprints")) {
+				Integer index = getInteger(fp, "index");
+				File file = index == null || index < 0 || index >= remaining.size() ? null : remaining.set(index, null);
+				if (file == null) {
+					debug.warning(format("Bad batch lookup index: %s", index));
+					continue;
+				}
+
+				int duration = Integer.parseInt(fingerprints.get(file).get(ChromaprintField.DURATION));
+
+				// store each result as if it was a single lookup response
+				Map<String, Object> response = new LinkedHashMap<String, Object>();
+				response.put("status", status);
+				response.put("results", getArray(fp, "results"));
+
+				getCache().put(getLookupParameters(duration, fingerprints.get(file).get(ChromaprintField.FINGERPRINT)).toString(), JsonWriter.objectToJson(response, singletonMap(JsonWriter.TYPE, false)));
+				results.put(file, parseResult(response, duration));
+			}
+		}
+
+		// single lookup for fingerprints that have not been batched or were not part of the batch response
+		for (File file : remaining) {
+			if (file != null) {
+				int duration = Integer.parseInt(fingerprints.get(file).get(ChromaprintField.DURATION));
+				String response = lookup(duration, fingerprints.get(file).get(ChromaprintField.FINGERPRINT));
+				if (response != null && response.length() > 0) {
+					results.put(file, parseResult(response, duration));
+				}
+			}
+		}
+
+		// preserve input order
+		Map<File, AudioTrack> sorted = new LinkedHashMap<File, AudioTrack>();
+		fingerprints.keySet().stream().filter(results::containsKey).forEach(f -> sorted.put(f, results.get(f)));
+		return sorted;
+	}
+
+	protected Map<String, String> getLookupParameters(int duration, String fingerprint) {
 		Map<String, String> postParam = new LinkedHashMap<String, String>();
 		postParam.put("duration", String.valueOf(duration));
 		postParam.put("fingerprint", fingerprint);
+		return postParam;
+	}
 
-		// e.g.
-		// http://api.acoustid.org/v2/lookup?client=8XaBELgH&meta=recordings+releasegroups+compress&duration=641&fingerprint=AQABz0qUkZK4oOfhL-CPc4e5C_wW2H2QH9uDL4cvoT8UNQ-eHtsE8cceeFJx-LiiHT-aPzhxoc-Opj_eI5d2hOFyMJRzfDk-QSsu7fBxqZDMHcfxPfDIoPWxv9C1o3yg44d_3Df2GJaUQeeR-cb2HfaPNsdxHj2PJnpwPMN3aPcEMzd-_MeB_Ej4D_CLP8ghHjkJv_jh_UDuQ8xnILwunPg6hF2R8HgzvLhxHVYP_ziJX0eKPnIE1UePMByDJyg7wz_6yELsB8n4oDmDa0Gv40hf6D3CE3_wH6HFaxCPUD9-hNeF5MfWEP3SCGym4-SxnXiGs0mRjEXD6fgl4LmKWrSChzzC33ge9PB3otyJMk-IVC6R8MTNwD9qKQ_CC8kPv4THzEGZS8GPI3x0iGVUxC1hRSizC5VzoamYDi-uR7iKPhGSI82PkiWeB_eHijvsaIWfBCWH5AjjCfVxZ1TQ3CvCTclGnEMfHbnZFA8pjD6KXwd__Cn-Y8e_I9cq6CR-4S9KLXqQcsxxoWh3eMxiHI6TIzyPv0M43YHz4yte-Cv-4D16Hv9F9C9SPUdyGtZRHV-OHEeeGD--BKcjVLOK_NCDXMfx44dzHEiOZ0Z44Rf6DH5R3uiPj4d_PKolJNyRJzyu4_CTD2WOvzjKH9GPb4cUP1Av9EuQd8fGCFee4JlRHi18xQh96NLxkCgfWFKOH6WGeoe4I3za4c5hTscTPEZTES1x8kE-9MQPjT8a8gh5fPgQZtqCFj9MDvp6fDx6NCd07bjx7MLR9AhtnFnQ70GjOcV0opmm4zpY3SOa7HiwdTtyHa6NC4e-HN-OfC5-OP_gLe2QDxfUCz_0w9l65HiPAz9-IaGOUA7-4MZ5CWFOlIfe4yUa6AiZGxf6w0fFxsjTOdC6Itbh4mGD63iPH9-RFy909XAMj7mC5_BvlDyO6kGTZKJxHUd4NDwuZUffw_5RMsde5CWkJAgXnDReNEaP6DTOQ65yaD88HoeX8fge-DSeHo9Qa8cTHc80I-_RoHxx_UHeBxrJw62Q34Kd7MEfpCcu6BLeB1ePw6OO4sOF_sHhmB504WWDZiEu8sKPpkcfCT9xfej0o0lr4T5yNJeOvjmu40w-TDmqHXmYgfFhFy_M7tD1o0cO_B2ms2j-ACEEQgQgAIwzTgAGmBIKIImNQAABwgQATAlhDGCCEIGIIM4BaBgwQBogEBIOESEIA8ARI5xAhxEFmAGAMCKAURKQQpQzRAAkCCBQEAKkQYIYIQQxCixCDADCABMAE0gpJIgyxhEDiCKCCIGAEIgJIQByAhFgGACCACMRQEyBAoxQiHiCBCFOECQFAIgAABR2QAgFjCDMA0AUMIoAIMChQghChASGEGeYEAIAIhgBSErnJPPEGWYAMgw05AhiiGHiBBBGGSCQcQgwRYJwhDDhgCSCSSEIQYwILoyAjAIigBFEUQK8gAYAQ5BCAAjkjCCAEEMZAUQAZQCjCCkpCgFMCCiIcVIAZZgilAQAiSHQECOcQAQIc4QClAHAjDDGkAGAMUoBgyhihgEChFCAAWEIEYwIJYwViAAlHCBIGEIEAEIQAoBwwgwiEBAEEEOoEwBY4wRwxAhBgAcKAESIQAwwIowRFhoBhAE
+	protected String post(Map<String, String> postParam) throws Exception {
+		REQUEST_LIMIT.acquirePermit();
 
-		return (String) getCache().computeIfAbsent(postParam.toString(), it -> {
-			REQUEST_LIMIT.acquirePermit();
+		URL url = new URL("https://api.acoustid.org/v2/lookup?client=" + apikey + "&meta=recordings+releases+releasegroups+tracks+compress");
+		Map<String, String> requestParam = new HashMap<String, String>();
+		requestParam.put("Content-Encoding", "gzip");
+		requestParam.put("Accept-Encoding", "gzip");
 
-			URL url = new URL("https://api.acoustid.org/v2/lookup?client=" + apikey + "&meta=recordings+releases+releasegroups+tracks+compress");
-			Map<String, String> requestParam = new HashMap<String, String>();
-			requestParam.put("Content-Encoding", "gzip");
-			requestParam.put("Accept-Encoding", "gzip");
+		return UTF_8.decode(WebRequest.post(url, postParam, requestParam)).toString();
+	}
 
-			return UTF_8.decode(post(url, postParam, requestParam)).toString();
-		});
+	public String lookup(int duration, String fingerprint) throws Exception {
+		Map<String, String> postParam = getLookupParameters(duration, fingerprint);
+
+		// e.g.
+		// http://api.acoustid.org/v2/lookup?client=8XaBELgH&meta=recordings+releasegroups+compress&duration=641&fingerprint=AQABz0qUkZK4oOfhL-CPc4e5C_wW2H2QH9uDL4cvoT8UNQ-eHtsE8cceeFJx-LiiHT-aPzhxoc-Opj_eI5d2hOFyMJRzfDk-QSsu7fBxqZDMHcfxPfDIoPWxv9C1o3yg44d_3Df2GJaUQeeR-cb2HfaPNsdxHj2PJnpwPMN3aPcEMzd-_MeB_Ej4D_CLP8ghHjkJv_jh_UDuQ8xnILwunPg6hF2R8HgzvLhxHVYP_ziJX0eKPnIE1UePMByDJyg7wz_6yELsB8n4oDmDa0Gv40hf6D3CE3_wH6HFaxCPUD9-hNeF5MfWEP3SCGym4-SxnXiGs0mRjEXD6fgl4LmKWrSChzzC33ge9PB3otyJMk-IVC6R8MTNwD9qKQ_CC8kPv4THzEGZS8GPI3x0iGVUxC1hRSizC5VzoamYDi-uR7iKPhGSI82PkiWeB_eHijvsaIWfBCWH5AjjCfVxZ1TQ3CvCTclGnEMfHbnZFA8pjD6KXwd__Cn-Y8e_I9cq6CR-4S9KLXqQcsxxoWh3eMxiHI6TIzyPv0M43YHz4yte-Cv-4D16Hv9F9C9SPUdyGtZRHV-OHEeeGD--BKcjVLOK_NCDXMfx44dzHEiOZ0Z44Rf6DH5R3uiPj4d_PKolJNyRJzyu4_CTD2WOvzjKH9GPb4cUP1Av9EuQd8fGCFee4JlRHi18xQh96NLxkCgfWFKOH6WGeoe4I3za4c5hTscTPEZTES1x8kE-9MQPjT8a8gh5fPgQZtqCFj9MDvp6fDx6NCd07bjx7MLR9AhtnFnQ70GjOcV0opmm4zpY3SOa7HiwdTtyHa6NC4e-HN-OfC5-OP_gLe2QDxfUCz_0w9l65HiPAz9-IaGOUA7-4MZ5CWFOlIfe4yUa6AiZGxf6w0fFxsjTOdC6Itbh4mGD63iPH9-RFy909XAMj7mC5_BvlDyO6kGTZKJxHUd4NDwuZUffw_5RMsde5CWkJAgXnDReNEaP6DTOQ65yaD88HoeX8fge-DSeHo9Qa8cTHc80I-_RoHxx_UHeBxrJw62Q34Kd7MEfpCcu6BLeB1ePw6OO4sOF_sHhmB504WWDZiEu8sKPpkcfCT9xfej0o0lr4T5yNJeOvjmu40w-TDmqHXmYgfFhFy_M7tD1o0cO_B2ms2j-ACEEQgQgAIwzTgAGmBIKIImNQAABwgQATAlhDGCCEIGIIM4BaBgwQBogEBIOESEIA8ARI5xAhxEFmAGAMCKAURKQQpQzRAAkCCBQEAKkQYIYIQQxCixCDADCABMAE0gpJIgyxhEDiCKCCIGAEIgJIQByAhFgGACCACMRQEyBAoxQiHiCBCFOECQFAIgAABR2QAgFjCDMA0AUMIoAIMChQghChASGEGeYEAIAIhgBSErnJPPEGWYAMgw05AhiiGHiBBBGGSCQcQgwRYJwhDDhgCSCSSEIQYwILoyAjAIigBFEUQK8gAYAQ5BCAAjkjCCAEEMZAUQAZQCjCCkpCgFMCCiIcVIAZZgilAQAiSHQECOcQAQIc4QClAHAjDDGkAGAMUoBgyhihgEChFCAAWEIEYwIJYwViAAlHCBIGEIEAEIQAoBwwgwiEBAEEEOoEwBY4wRwxAhBgAcKAESIQAwwIowRFhoBhAE
+
+		return (String) getCache().computeIfAbsent(postParam.toString(), it -> post(postParam));
 	}
 
 	public AudioTrack parseResult(String json, final int targetDuration) throws IOException {
-		Object data = readJson(json);
+		return parseResult(readJson(json), targetDuration);
+	}
 
+	protected AudioTrack parseResult(Object data, final int targetDuration) throws IOException {
 		String status = getString(data, "status");
 		if (!"ok".equals(status)) {
 			throw new IOException(String.format("%s responded with error: %s", getName(), status));
@@ -11,19 +11,19 @@ import static net.filebot.web.EpisodeUtilities.*;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.URL;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 import javax.swing.Icon;
 
@@ -155,9 +155,9 @@ public class AnidbClient extends AbstractEpisodeListProvider {
 						number = airdate.getYear() * 1_00_00 + airdate.getMonth() * 1_00 + airdate.getDay();
 					}
 
-					episodes.add(new Episode(animeTitle, null, number, title, number, null, airdate, id, new SeriesInfo(seriesInfo))); // normal episode, no seasons for anime
+					episodes.add(new Episode(animeTitle, null, number, title, number, null, airdate, id, seriesInfo)); // normal episode, no seasons for anime
 				} else {
-					episodes.add(new Episode(animeTitle, null, null, title, null, number, airdate, id, new SeriesInfo(seriesInfo))); // special episode
+					episodes.add(new Episode(animeTitle, null, null, title, null, number, airdate, id, seriesInfo)); // special episode
 				}
 			}
 		}
@@ -215,63 +215,221 @@ public class AnidbClient extends AbstractEpisodeListProvider {
 		// get data file (unzip and cache)
 		byte[] bytes = getCache("root").bytes("anime-titles.dat.gz", n -> new URL("http://anidb.net/api/" + n)).get();
 
+		// data file may or may not have been decompressed already
+		InputStream data = new ByteArrayInputStream(bytes);
+		if (bytes.length > 2 && (bytes[0] & 0xFF) == 0x1F && (bytes[1] & 0xFF) == 0x8B) {
+			data = new GZIPInputStream(data, 64 * 1024);
+		}
+
+		try (BufferedReader text = new BufferedReader(new InputStreamReader(data, UTF_8), 64 * 1024)) {
+			return parseAnimeTitles(text);
+		}
+	}
+
+	protected static SearchResult[] parseAnimeTitles(BufferedReader text) throws IOException {
 		// <aid>|<type>|<language>|<title>
 		// type: 1=primary title (one per anime), 2=synonyms (multiple per anime), 3=shorttitles (multiple per anime), 4=official title (one per language)
-		Pattern pattern = Pattern.compile("^(?!#)(\\d+)[|](\\d)[|]([\\w-]+)[|](.+)$");
+		List<AnimeTitle> titles = new ArrayList<AnimeTitle>(65536);
 
-		List<String> languageOrder = new ArrayList<String>();
-		languageOrder.add("x-jat");
-		languageOrder.add("en");
-		languageOrder.add("ja");
+		for (String line = text.readLine(); line != null; line = text.readLine()) {
+			AnimeTitle title = AnimeTitle.parse(line);
+			if (title != null) {
+				titles.add(title);
+			}
+		}
 
-		List<String> typeOrder = new ArrayList<String>();
-		typeOrder.add("1");
-		typeOrder.add("4");
-		typeOrder.add("2");
-		typeOrder.add("3");
+		// group by anime id and order by type, language and title
+		titles.sort(null);
 
-		// fetch data
-		Map<Integer, List<Object[]>> entriesByAnime = new HashMap<Integer, List<Object[]>>(65536);
+		List<SearchResult> results = new ArrayList<SearchResult>();
+		for (int i = 0, j = 0; i < titles.size(); i = j) {
+			int aid = titles.get(i).aid;
+			while (j < titles.size() && titles.get(j).aid == aid) {
+				j++;
+			}
 
-		try (BufferedReader text = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(bytes), UTF_8))) {
-			text.lines().forEach(line -> {
-				Matcher matcher = pattern.matcher(line);
+			List<String> names = titles.subList(i, j).stream().map(it -> it.title).collect(toList());
+			results.add(new SearchResult(aid, names.get(0), names.subList(1, names.size())));
+		}
 
-				if (matcher.matches()) {
-					int aid = Integer.parseInt(matcher.group(1));
-					String type = matcher.group(2);
-					String language = matcher.group(3);
-					String title = matcher.group(4);
+		return results.toArray(new SearchResult[0]);
+	}
 
-					if (aid > 0 && title.length() > 0 && typeOrder.contains(type) && languageOrder.contains(language)) {
-						// resolve HTML entities
-						title = Jsoup.parse(title).text();
+	private static class AnimeTitle implements Comparable<AnimeTitle> {
 
-						if (type.equals("3") && (title.length() < 5 || !Character.isUpperCase(title.charAt(0)) || Character.isUpperCase(title.charAt(title.length() - 1)))) {
-							return;
-						}
+		private static final String[] TYPE_ORDER = { "1", "4", "2", "3" };
+		private static final String[] LANGUAGE_ORDER = { "x-jat", "en", "ja" };
 
-						entriesByAnime.computeIfAbsent(aid, k -> new ArrayList<Object[]>()).add(new Object[] { typeOrder.indexOf(type), languageOrder.indexOf(language), title });
-					}
+		public final int aid;
+		public final int type;
+		public final int language;
+		public final String title;
+
+		public AnimeTitle(int aid, int type, int language, String title) {
+			this.aid = aid;
+			this.type = type;
+			this.language = language;
+			this.title = title;
+		}
+
+		@Override
+		public int compareTo(AnimeTitle other) {
+			if (aid != other.aid) {
+				return Integer.compare(aid, other.aid);
+			}
+			if (type != other.type) {
+				return Integer.compare(type, other.type);
+			}
+			if (language != other.language) {
+				return Integer.compare(language, other.language);
+			}
+			return title.compareTo(other.title);
+		}
+
+		public static AnimeTitle parse(String line) {
+			// split fields by hand instead of matching each line against ^(?!#)(\d+)[|](\d)[|]([\w-]+)[|](.+)$
+			int s1 = line.indexOf('|');
+			if (s1 <= 0 || !isDigits(line, 0, s1)) {
+				return null;
+			}
+
+			int s2 = s1 + 2;
+			if (s2 >= line.length() || line.charAt(s2) != '|' || !isDigits(line, s1 + 1, s2)) {
+				return null;
+			}
+
+			int s3 = line.indexOf('|', s2 + 1);
+			if (s3 <= s2 + 1 || s3 + 1 >= line.length() || !isWordCharacters(line, s2 + 1, s3) || !isTitleCharacters(line, s3 + 1, line.length())) {
+				return null;
+			}
+
+			int aid = Integer.parseInt(line.substring(0, s1));
+			int type = indexOf(TYPE_ORDER, line, s1 + 1, s2);
+			int language = indexOf(LANGUAGE_ORDER, line, s2 + 1, s3);
+
+			if (aid <= 0 || type < 0 || language < 0) {
+				return null;
+			}
+
+			// resolve HTML entities
+			String title = decodeHtmlText(line.substring(s3 + 1));
+
+			// ignore short titles that are not acronyms
+			if (type == 3 && (title.length() < 5 || !Character.isUpperCase(title.charAt(0)) || Character.isUpperCase(title.charAt(title.length() - 1)))) {
+				return null;
+			}
+
+			return new AnimeTitle(aid, type, language, title);
+		}
+
+		private static int indexOf(String[] values, String line, int from, int to) {
+			for (int i = 0; i < values.length; i++) {
+				if (values[i].length() == to - from && line.startsWith(values[i], from)) {
+					return i;
 				}
-			});
+			}
+			return -1;
 		}
 
-		// build up a list of all possible AniDB search results
-		return entriesByAnime.entrySet().stream().map(it -> {
-			List<String> names = it.getValue().stream().sorted((a, b) -> {
-				for (int i = 0; i < a.length; i++) {
-					if (!a[i].equals(b[i])) {
-						return ((Comparable) a[i]).compareTo(b[i]);
-					}
+		private static boolean isDigits(String s, int from, int to) {
+			for (int i = from; i < to; i++) {
+				char c = s.charAt(i);
+				if (c < '0' || c > '9') {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private static boolean isWordCharacters(String s, int from, int to) {
+			for (int i = from; i < to; i++) {
+				char c = s.charAt(i);
+				if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '-')) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private static boolean isTitleCharacters(String s, int from, int to) {
+			// same as . which does not match line terminators
+			for (int i = from; i < to; i++) {
+				char c = s.charAt(i);
+				if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+					return false;
 				}
-				return 0;
-			}).map(n -> n[2].toString()).collect(toList());
+			}
+			return true;
+		}
+	}
+
+	protected static String decodeHtmlText(String html) {
+		StringBuilder text = null;
+
+		for (int i = 0; i < html.length(); i++) {
+			char c = html.charAt(i);
+
+			// markup, special whitespace and control characters require a full HTML parser
+			if (c == '<' || c < ' ' || c == '\u00A0' || (c == ' ' && (i == 0 || i == html.length() - 1 || html.charAt(i + 1) == ' '))) {
+				return Jsoup.parse(html).text();
+			}
+
+			if (c == '&') {
+				int end = html.indexOf(';', i);
+				int value = end < 0 ? -1 : decodeHtmlEntity(html, i + 1, end);
 
-			String primaryTitle = names.get(0);
-			List<String> aliasNames = names.subList(1, names.size());
-			return new SearchResult(it.getKey(), primaryTitle, aliasNames);
-		}).toArray(SearchResult[]::new);
+				// unknown or ambiguous entities require a full HTML parser
+				if (value < 0) {
+					return Jsoup.parse(html).text();
+				}
+
+				if (text == null) {
+					text = new StringBuilder(html.length()).append(html, 0, i);
+				}
+				text.appendCodePoint(value);
+				i = end;
+				continue;
+			}
+
+			if (text != null) {
+				text.append(c);
+			}
+		}
+
+		return text == null ? html : text.toString();
+	}
+
+	private static int decodeHtmlEntity(String s, int from, int to) {
+		String name = s.substring(from, to);
+		switch (name) {
+		case "amp":
+			return '&';
+		case "quot":
+			return '"';
+		case "apos":
+			return '\'';
+		case "lt":
+			return '<';
+		case "gt":
+			return '>';
+		}
+
+		// numeric character references (only for unambiguous printable characters)
+		try {
+			int value = -1;
+			if (name.length() > 2 && (name.charAt(1) == 'x' || name.charAt(1) == 'X') && name.charAt(0) == '#' && name.length() <= 8) {
+				value = Integer.parseInt(name.substring(2), 16);
+			} else if (name.length() > 1 && name.charAt(0) == '#' && name.length() <= 8) {
+				value = Integer.parseInt(name.substring(1), 10);
+			}
+
+			if ((value > ' ' && value < 0x7F) || (value > 0xA0 && value < 0xD800) || (value > 0xDFFF && value < 0xFDD0) || (value > 0xFFFF && value <= 0x10FFFF)) {
+				return value;
+			}
+		} catch (NumberFormatException e) {
+			// not a number
+		}
+		return -1;
 	}
 
 }
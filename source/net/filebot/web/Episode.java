@@ -52,7 +52,7 @@ public class Episode implements Serializable {
 		this.special = special;
 		this.airdate = airdate == null ? null : airdate.clone();
 		this.id = id;
-		this.seriesInfo = seriesInfo == null ? null : seriesInfo.clone();
+		this.seriesInfo = seriesInfo; // series info is shared by all episodes of a series and only ever exposed as a copy
 	}
 
 	public String getSeriesName() {
@@ -88,7 +88,11 @@ public class Episode implements Serializable {
 	}
 
 	public SeriesInfo getSeriesInfo() {
-		return seriesInfo;
+		return seriesInfo == null ? null : seriesInfo.clone();
+	}
+
+	public boolean isSeriesInfo(SeriesInfo info) {
+		return seriesInfo == info; // check for the shared instance without making a copy
 	}
 
 	public List<Integer> getNumbers() {
@@ -4,6 +4,7 @@ import static java.util.Arrays.*;
 import static java.util.Collections.*;
 import static java.util.stream.Collectors.*;
 import static net.filebot.Logging.*;
+import static net.filebot.Settings.*;
 import static net.filebot.util.FileUtilities.*;
 import static net.filebot.util.JsonUtilities.*;
 import static net.filebot.web.OpenSubtitlesHasher.*;
@@ -11,12 +12,17 @@ import static net.filebot.web.OpenSubtitlesHasher.*;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -45,6 +51,16 @@ import redstone.xmlrpc.XmlRpcFault;
  */
 public class OpenSubtitlesClient implements SubtitleProvider, VideoHashSubtitleService, MovieIdentificationService {
 
+	/**
+	 * Max number of queries per SearchSubtitles request (each response is limited to 500 subtitles in total)
+	 */
+	public static final int SEARCH_SUBTITLES_BATCH_SIZE = 20;
+
+	/**
+	 * Max number of subtitles per SearchSubtitles response
+	 */
+	public static final int SEARCH_SUBTITLES_RESULT_LIMIT = 500;
+
 	public final OpenSubtitlesXmlRpc xmlrpc;
 
 	private String username = "";
@@ -196,28 +212,89 @@ public class OpenSubtitlesClient implements SubtitleProvider, VideoHashSubtitleS
 		return results;
 	}
 
-	protected Map<File, List<SubtitleDescriptor>> getSubtitleList(File[] files, Function<File, Query> queryMapper) throws Exception {
-		Map<File, List<SubtitleDescriptor>> results = new HashMap<File, List<SubtitleDescriptor>>(files.length);
+	public synchronized Map<Query, List<SubtitleDescriptor>> getSubtitleList(Collection<Query> queries) throws Exception {
+		Map<Query, List<SubtitleDescriptor>> results = new HashMap<Query, List<SubtitleDescriptor>>(queries.size());
+		Set<Query> remainingQueries = new LinkedHashSet<Query>();
 
-		// dispatch query for all hashes
-		for (File f : files) {
-			Query query = queryMapper.apply(f);
-			if (query != null) {
-				results.put(f, getSubtitleList(query));
+		// check cache for each query
+		TypedCache<List<SubtitleDescriptor>> cache = getSubtitlesCache();
+		for (Query query : queries) {
+			List<SubtitleDescriptor> subtitles = cache.get(query);
+			if (subtitles != null) {
+				results.put(query, subtitles);
 			} else {
-				results.put(f, emptyList());
+				remainingQueries.add(query);
 			}
 		}
 
+		// dispatch remaining queries in batches
+		List<Query> remaining = new ArrayList<Query>(remainingQueries);
+		for (int i = 0; i < remaining.size(); i += SEARCH_SUBTITLES_BATCH_SIZE) {
+			searchSubtitlesBatch(remaining.subList(i, Math.min(i + SEARCH_SUBTITLES_BATCH_SIZE, remaining.size())), cache, results);
+		}
+
+		return results;
+	}
+
+	protected void searchSubtitlesBatch(List<Query> batch, TypedCache<List<SubtitleDescriptor>> cache, Map<Query, List<SubtitleDescriptor>> results) throws Exception {
+		// require login
+		login();
+
+		Map<Query, List<OpenSubtitlesSubtitleDescriptor>> response = xmlrpc.searchSubtitlesByQuery(batch);
+
+		// response may be truncated if the result limit has been reached, so split the batch and try again
+		if (batch.size() > 1 && response.values().stream().mapToInt(List::size).sum() >= SEARCH_SUBTITLES_RESULT_LIMIT) {
+			debug.finest(format("SearchSubtitles result limit reached: split batch of %d queries", batch.size()));
+			searchSubtitlesBatch(batch.subList(0, batch.size() / 2), cache, results);
+			searchSubtitlesBatch(batch.subList(batch.size() / 2, batch.size()), cache, results);
+			return;
+		}
+
+		response.forEach((query, subtitles) -> {
+			List<SubtitleDescriptor> value = new ArrayList<SubtitleDescriptor>(subtitles);
+			cache.put(query, value);
+			results.put(query, value);
+		});
+	}
+
+	protected Map<File, List<SubtitleDescriptor>> getSubtitleList(File[] files, Function<File, Query> queryMapper) throws Exception {
+		Map<File, Query> queries = new LinkedHashMap<File, Query>(files.length);
+		for (File f : files) {
+			queries.put(f, queryMapper.apply(f));
+		}
+
+		// dispatch query for all hashes
+		Map<Query, List<SubtitleDescriptor>> subtitles = getSubtitleList(queries.values().stream().filter(Objects::nonNull).collect(toList()));
+
+		Map<File, List<SubtitleDescriptor>> results = new HashMap<File, List<SubtitleDescriptor>>(files.length);
+		queries.forEach((f, query) -> {
+			results.put(f, query == null ? emptyList() : subtitles.getOrDefault(query, emptyList()));
+		});
+
 		return results;
 	}
 
+	protected Map<File, String> getFileHashes(File[] files) {
+		// compute file hashes in parallel
+		try {
+			return computeHashes(stream(files).filter(f -> f.length() > HASH_CHUNK_SIZE).collect(toList()));
+		} catch (Exception e) {
+			// fall back to hashing files one by one so that a single unreadable file does not fail the whole batch
+			debug.warning(format("Failed to compute hashes: %s", e));
+			return emptyMap();
+		}
+	}
+
 	public Map<File, List<SubtitleDescriptor>> getSubtitleListByHash(File[] files, Locale locale) throws Exception {
+		String[] languageFilter = getLanguageFilter(locale);
+
+		Map<File, String> hashes = getFileHashes(files);
+
 		return getSubtitleList(files, f -> {
 			if (f.length() > HASH_CHUNK_SIZE) {
 				try {
-					String hash = computeHash(f);
-					return Query.forHash(hash, f.length(), getLanguageFilter(locale));
+					String hash = hashes.containsKey(f) ? hashes.get(f) : computeHashNIO(f);
+					return Query.forHash(hash, f.length(), languageFilter);
 				} catch (Exception e) {
 					debug.log(Level.SEVERE, "Failed to compute hash", e);
 				}
@@ -226,7 +303,7 @@ public class OpenSubtitlesClient implements SubtitleProvider, VideoHashSubtitleS
 				try {
 					Map<?, ?> json = asMap(readJson(readTextFile(f)));
 					if (json != null) {
-						return Query.forHash(json.get("hash").toString(), Long.parseLong(json.get("size").toString()), getLanguageFilter(locale));
+						return Query.forHash(json.get("hash").toString(), Long.parseLong(json.get("size").toString()), languageFilter);
 					}
 				} catch (Exception e) {
 					debug.finest("Ignore sample file: " + f);
@@ -237,9 +314,11 @@ public class OpenSubtitlesClient implements SubtitleProvider, VideoHashSubtitleS
 	}
 
 	public Map<File, List<SubtitleDescriptor>> getSubtitleListByTag(File[] files, Locale locale) throws Exception {
+		String[] languageFilter = getLanguageFilter(locale);
+
 		return getSubtitleList(files, f -> {
 			String tag = getNameWithoutExtension(f.getName());
-			return Query.forTag(tag, getLanguageFilter(locale));
+			return Query.forTag(tag, languageFilter);
 		});
 	}
 
@@ -351,16 +430,17 @@ public class OpenSubtitlesClient implements SubtitleProvider, VideoHashSubtitleS
 		// make sure we don't get mismatches by making sure the hash has not been confirmed numerous times
 		int minSeenCount = 20;
 
-		for (File f : movieFiles) {
-			if (f.length() > HASH_CHUNK_SIZE) {
-				String hash = computeHash(f);
+		// compute hashes in parallel
+		Map<File, String> hashes = computeHashes(movieFiles.stream().filter(f -> f.length() > HASH_CHUNK_SIZE).collect(toList()));
 
-				Movie match = getLookupCache(locale).computeIfAbsent(hash, it -> {
-					return xmlrpc.checkMovieHash(singleton(hash), minSeenCount).get(hash);
-				});
+		for (Entry<File, String> it : hashes.entrySet()) {
+			String hash = it.getValue();
 
-				results.put(f, match);
-			}
+			Movie match = getLookupCache(locale).computeIfAbsent(hash, h -> {
+				return xmlrpc.checkMovieHash(singleton(hash), minSeenCount).get(hash);
+			});
+
+			results.put(it.getKey(), match);
 		}
 
 		return results;
@@ -1,16 +1,25 @@
 package net.filebot.web;
 
+import static net.filebot.Settings.*;
+
 import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.LongBuffer;
 import java.nio.channels.FileChannel;
-import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Hash code is based on Media Player Classic. In natural language it calculates: size + 64bit checksum of the first and last 64k (even if they overlap because the file is smaller than 128k).
@@ -22,25 +31,50 @@ public final class OpenSubtitlesHasher {
 	 */
 	public static final int HASH_CHUNK_SIZE = 64 * 1024;
 
-	public static String computeHashNIO(File file) throws IOException {
-		long size = file.length();
-		long chunkSizeForFile = Math.min(HASH_CHUNK_SIZE, size);
+	// reuse the same direct buffer for all chunks read by the same thread
+	private static final ThreadLocal<ByteBuffer> chunkBuffer = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(HASH_CHUNK_SIZE).order(ByteOrder.LITTLE_ENDIAN));
 
+	public static String computeHashNIO(File file) throws IOException {
 		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
-			long head = computeHashForChunk(channel.map(MapMode.READ_ONLY, 0, chunkSizeForFile));
-			long tail = computeHashForChunk(channel.map(MapMode.READ_ONLY, Math.max(size - HASH_CHUNK_SIZE, 0), chunkSizeForFile));
+			long size = channel.size();
+			int chunkSizeForFile = (int) Math.min(HASH_CHUNK_SIZE, size);
+
+			// read head and tail chunk via positional reads, chunks are the same if the file is smaller than one chunk
+			long head = computeHashForChunk(channel, 0, chunkSizeForFile);
+			long tail = size <= HASH_CHUNK_SIZE ? head : computeHashForChunk(channel, size - HASH_CHUNK_SIZE, chunkSizeForFile);
 
 			return String.format("%016x", size + head + tail);
 		}
 	}
 
 	public static String computeHash(File file) throws IOException {
-		FileInputStream in = new FileInputStream(file);
+		return computeHashNIO(file);
+	}
+
+	public static Map<File, String> computeHashes(Collection<File> files) throws Exception {
+		Map<File, String> hashes = new LinkedHashMap<File, String>(files.size());
+
+		// compute hashes in parallel since reading chunks from network shares is mostly waiting for I/O
+		ExecutorService workerThreadPool = Executors.newFixedThreadPool(Math.max(1, Math.min(files.size(), getPreferredThreadPoolSize())));
 		try {
-			return computeHash(in, file.length());
+			List<Future<String>> tasks = new ArrayList<Future<String>>(files.size());
+			for (File f : files) {
+				tasks.add(workerThreadPool.submit(() -> computeHashNIO(f)));
+			}
+
+			int i = 0;
+			for (File f : files) {
+				try {
+					hashes.put(f, tasks.get(i++).get());
+				} catch (ExecutionException e) {
+					throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+				}
+			}
 		} finally {
-			in.close();
+			workerThreadPool.shutdownNow();
 		}
+
+		return hashes;
 	}
 
 	public static String computeHash(InputStream stream, long length) throws IOException {
@@ -64,18 +98,33 @@ public final class OpenSubtitlesHasher {
 		// second chunk, or the rest of the data if length is smaller than two chunks
 		in.readFully(chunkBytes, chunkSizeForFile, chunkBytes.length - chunkSizeForFile);
 
-		long head = computeHashForChunk(ByteBuffer.wrap(chunkBytes, 0, chunkSizeForFile));
-		long tail = computeHashForChunk(ByteBuffer.wrap(chunkBytes, chunkBytes.length - chunkSizeForFile, chunkSizeForFile));
+		ByteBuffer buffer = ByteBuffer.wrap(chunkBytes).order(ByteOrder.LITTLE_ENDIAN);
+		long head = computeHashForChunk(buffer, 0, chunkSizeForFile);
+		long tail = computeHashForChunk(buffer, chunkBytes.length - chunkSizeForFile, chunkSizeForFile);
 
 		return String.format("%016x", length + head + tail);
 	}
 
-	private static long computeHashForChunk(ByteBuffer buffer) {
-		LongBuffer longBuffer = buffer.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+	private static long computeHashForChunk(FileChannel channel, long position, int length) throws IOException {
+		ByteBuffer buffer = chunkBuffer.get();
+		buffer.clear();
+		buffer.limit(length);
+
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new EOFException();
+			}
+		}
+
+		return computeHashForChunk(buffer, 0, length);
+	}
+
+	private static long computeHashForChunk(ByteBuffer buffer, int offset, int length) {
 		long hash = 0;
 
-		while (longBuffer.hasRemaining()) {
-			hash += longBuffer.get();
+		// sum of little-endian longs (trailing bytes that don't make up a full long are ignored)
+		for (int i = offset, end = offset + (length & ~7); i < end; i += 8) {
+			hash += buffer.getLong(i);
 		}
 
 		return hash;
@@ -11,6 +11,7 @@ import java.nio.ByteBuffer;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.GZIPInputStream;
 
 import net.filebot.util.ByteBufferOutputStream;
@@ -113,6 +114,8 @@ public class OpenSubtitlesSubtitleDescriptor implements SubtitleDescriptor, Seri
 		return Integer.parseInt(getProperty(Property.SubSumCD));
 	}
 
+	private static final FloodLimit DOWNLOAD_LIMIT = new FloodLimit(20, 10, TimeUnit.SECONDS);
+
 	private static int DOWNLOAD_QUOTA = 1000;
 
 	public static synchronized void checkDownloadQuota() throws IllegalStateException {
@@ -130,6 +133,9 @@ public class OpenSubtitlesSubtitleDescriptor implements SubtitleDescriptor, Seri
 	public ByteBuffer fetch() throws Exception {
 		checkDownloadQuota();
 
+		// make sure that concurrent downloads don't exceed the request limit
+		DOWNLOAD_LIMIT.acquirePermit();
+
 		URLConnection c = new URL(getProperty(Property.SubDownloadLink)).openConnection();
 		try (InputStream in = c.getInputStream()) {
 			// check download quota
@@ -109,6 +109,25 @@ public class OpenSubtitlesXmlRpc {
 		return subtitles;
 	}
 
+	public Map<Query, List<OpenSubtitlesSubtitleDescriptor>> searchSubtitlesByQuery(List<Query> queryList) throws XmlRpcFault {
+		Map<Query, List<OpenSubtitlesSubtitleDescriptor>> results = new HashMap<Query, List<OpenSubtitlesSubtitleDescriptor>>(queryList.size());
+		for (Query query : queryList) {
+			results.put(query, new ArrayList<OpenSubtitlesSubtitleDescriptor>());
+		}
+
+		// map each subtitle back to the query it has been found for, QueryNumber is the index of the query in the request
+		for (OpenSubtitlesSubtitleDescriptor subtitle : searchSubtitles(queryList)) {
+			try {
+				int i = queryList.size() == 1 ? 0 : subtitle.getQueryNumber();
+				results.get(queryList.get(i)).add(subtitle);
+			} catch (Exception e) {
+				debug.warning(format("Illegal QueryNumber: %s => %s", subtitle.getProperty(Property.QueryNumber), subtitle));
+			}
+		}
+
+		return results;
+	}
+
 	public List<SubtitleSearchResult> searchMoviesOnIMDB(String query) throws XmlRpcFault {
 		try {
 			// search for movies / series
@@ -201,6 +201,9 @@ public class TheTVDBClient extends AbstractEpisodeListProvider implements Artwor
 		List<Episode> episodes = new ArrayList<Episode>();
 		List<Episode> specials = new ArrayList<Episode>();
 
+		// all episodes share the same series info
+		SeriesInfo episodeSeriesInfo = new SeriesInfo(info);
+
 		for (int i = 1, n = 1; i <= n; i++) {
 			Object json = requestJson("series/" + series.getId() + "/episodes?page=" + i, locale, Cache.ONE_DAY);
 
@@ -254,10 +257,10 @@ public class TheTVDBClient extends AbstractEpisodeListProvider implements Artwor
 
 				if (seasonNumber == null || seasonNumber > 0) {
 					// handle as normal episode
-					episodes.add(new Episode(info.getName(), seasonNumber, episodeNumber, episodeName, absoluteNumber, null, airdate, id, new SeriesInfo(info)));
+					episodes.add(new Episode(info.getName(), seasonNumber, episodeNumber, episodeName, absoluteNumber, null, airdate, id, episodeSeriesInfo));
 				} else {
 					// handle as special episode
-					specials.add(new Episode(info.getName(), null, null, episodeName, absoluteNumber, episodeNumber, airdate, id, new SeriesInfo(info)));
+					specials.add(new Episode(info.getName(), null, null, episodeName, absoluteNumber, episodeNumber, airdate, id, episodeSeriesInfo));
 				}
 			});
 		}
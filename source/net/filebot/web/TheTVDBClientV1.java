@@ -137,6 +137,9 @@ public class TheTVDBClientV1 extends AbstractEpisodeListProvider implements Artw
 
 		// parse episode data
 		List<Episode> episodes = new ArrayList<Episode>(50);
+
+		// all episodes share the same series info
+		SeriesInfo episodeSeriesInfo = new SeriesInfo(seriesInfo);
 		List<Episode> specials = new ArrayList<Episode>(5);
 
 		for (Node node : selectNodes("Data/Episode", dom)) {
@@ -174,7 +177,7 @@ public class TheTVDBClientV1 extends AbstractEpisodeListProvider implements Artw
 
 				// use given episode number as special number or count specials by ourselves
 				Integer specialNumber = (episodeNumber != null) ? episodeNumber : filterBySeason(specials, seasonNumber).size() + 1;
-				specials.add(new Episode(seriesInfo.getName(), seasonNumber, null, episodeName, absoluteNumber, specialNumber, airdate, id, new SeriesInfo(seriesInfo)));
+				specials.add(new Episode(seriesInfo.getName(), seasonNumber, null, episodeName, absoluteNumber, specialNumber, airdate, id, episodeSeriesInfo));
 			} else {
 				// adjust for forced absolute numbering (if possible)
 				if (sortOrder == SortOrder.Absolute && absoluteNumber != null && absoluteNumber > 0) {
@@ -187,7 +190,7 @@ public class TheTVDBClientV1 extends AbstractEpisodeListProvider implements Artw
 				}
 
 				// handle as normal episode
-				episodes.add(new Episode(seriesInfo.getName(), seasonNumber, episodeNumber, episodeName, absoluteNumber, null, airdate, id, new SeriesInfo(seriesInfo)));
+				episodes.add(new Episode(seriesInfo.getName(), seasonNumber, episodeNumber, episodeName, absoluteNumber, null, airdate, id, episodeSeriesInfo));
 			}
 		}
 
@@ -0,0 +1,138 @@
+package net.filebot;
+
+import static java.util.Arrays.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Locale;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import net.filebot.web.AbstractEpisodeListProvider.SeriesData;
+import net.filebot.web.Episode;
+import net.filebot.web.Movie;
+import net.filebot.web.SeriesInfo;
+import net.filebot.web.SimpleDate;
+
+public class MappedCacheStoreTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void putGetRemove() throws Exception {
+		MappedCacheStore store = new MappedCacheStore("test", folder.newFile(), CacheType.Daily);
+
+		store.put("key", "value");
+		store.put(42, new byte[] { 1, 2, 3 });
+		store.put("key", "update");
+
+		assertEquals("update", store.get("key").getValue());
+		assertArrayEquals(new byte[] { 1, 2, 3 }, (byte[]) store.get(42).getValue());
+		assertNull(store.get("missing"));
+
+		store.remove("key");
+		assertNull(store.get("key"));
+
+		store.close();
+	}
+
+	@Test
+	public void reopen() throws Exception {
+		File file = folder.newFile();
+
+		MappedCacheStore store = new MappedCacheStore("test", file, CacheType.Persistent);
+		for (int i = 0; i < 50000; i++) {
+			store.put(i % 1000, "value " + i);
+		}
+		store.close();
+
+		store = new MappedCacheStore("test", file, CacheType.Persistent);
+		assertEquals("value 49999", store.get(999).getValue());
+		assertEquals("value 49000", store.get(0).getValue());
+		store.close();
+	}
+
+	@Test
+	public void expire() throws Exception {
+		File file = folder.newFile();
+
+		MappedCacheStore store = new MappedCacheStore("test", file, Duration.ofMillis(500));
+		store.put("key", "value");
+		assertEquals("value", store.get("key").getValue());
+
+		Thread.sleep(1000);
+		assertNull(store.get("key"));
+
+		// expired entries are dropped on compaction
+		for (int i = 0; i < 50000; i++) {
+			store.put(i, "value " + i);
+		}
+		store.close();
+
+		store = new MappedCacheStore("test", file, CacheType.Persistent);
+		assertNull(store.get("key"));
+		assertEquals("value 49999", store.get(49999).getValue());
+		store.close();
+	}
+
+	@Test
+	public void codec() throws Exception {
+		SeriesInfo info = new SeriesInfo();
+		info.setId(1);
+		info.setName("Firefly");
+		info.setStartDate(new SimpleDate(2002, 9, 20));
+
+		Episode e1 = new Episode("Firefly", 1, 1, "Serenity", 1, null, new SimpleDate(2002, 12, 20), 10, info);
+		Episode e2 = new Episode("Firefly", 1, 2, "The Train Job", 2, null, null, 11, info);
+		SeriesData data = new SeriesData(info, asList(e1, e2));
+
+		SeriesData copy = (SeriesData) CacheCodec.decode(ByteBuffer.wrap(CacheCodec.encode(data)));
+		assertEquals(info.toString(), copy.seriesInfo.toString());
+		assertEquals(asList(e1, e2), asList(copy.episodeList));
+		assertEquals("Firefly", copy.episodeList[1].getSeriesInfo().getName());
+
+		Movie movie = new Movie("Serenity", new String[] { "Firefly Movie" }, 2005, 379786, 16320, Locale.ENGLISH);
+		Movie movieCopy = (Movie) ((Object[]) CacheCodec.decode(ByteBuffer.wrap(CacheCodec.encode(new Object[] { movie }))))[0];
+		assertEquals(movie, movieCopy);
+		assertEquals(16320, movieCopy.getId());
+		assertEquals(asList("Firefly Movie"), asList(movieCopy.getAliasNames()));
+	}
+
+	@Test
+	public void serializeSeriesData() throws Exception {
+		SeriesInfo info = new SeriesInfo();
+		info.setId(1);
+		info.setName("Firefly");
+
+		Episode[] episodes = new Episode[100];
+		for (int i = 0; i < episodes.length; i++) {
+			episodes[i] = new Episode("Firefly", 1, i + 1, "Episode " + i, i + 1, null, null, 10 + i, info);
+		}
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(buffer)) {
+			out.writeObject(new SeriesData(info, asList(episodes)));
+		}
+
+		SeriesData copy = (SeriesData) new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray())).readObject();
+		assertEquals(asList(episodes), asList(copy.episodeList));
+		assertEquals("Firefly", copy.episodeList[99].getSeriesInfo().getName());
+
+		// all episodes share the same series info instance
+		assertTrue(copy.episodeList[0].isSeriesInfo(copy.seriesInfo));
+		assertTrue(copy.episodeList[99].isSeriesInfo(copy.seriesInfo));
+
+		// shared series info is only exposed as a copy
+		assertNotSame(copy.episodeList[0].getSeriesInfo(), copy.episodeList[99].getSeriesInfo());
+	}
+
+}
@@ -1,14 +1,20 @@
 
 package net.filebot.format;
 
+import static java.util.Arrays.*;
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.script.Bindings;
 import javax.script.CompiledScript;
 import javax.script.ScriptException;
 import javax.script.SimpleBindings;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class ExpressionFormatTest {
 
@@ -57,6 +63,23 @@ public class ExpressionFormatTest {
 		assertEquals("default", new TestScriptFormat("{value ?: 'default'}").format(false));
 	}
 
+	@Test
+	public void compileFormat() throws Exception {
+		assertNotNull(ExpressionFormat.compileFormat(new ExpressionFormat("").parse("X5-{value.pad(4)}-{value.size()}")));
+		assertEquals("X5-0452-3", new TestScriptFormat("X5-{value.pad(4)}-{value.size()}").format("452"));
+	}
+
+	@Test
+	public void compileFormatInjection() throws Exception {
+		// braces in strings are counted by the parser, so the scriptlet closes its own method body and declares another method
+		assertNull(ExpressionFormat.compileFormat(new ExpressionFormat("").parse("{ '{' } ; def x() { '}' }")));
+
+		// format script declares only the scriptlet methods
+		assertTrue(ExpressionFormat.isFormatScript("def __snippet0() {\n1\n}\nObject evaluate(int snippet) {\nreturn __snippet0()\n}\n", asList("__snippet0", "evaluate")));
+		assertFalse(ExpressionFormat.isFormatScript("def __snippet0() {\n'' }\nprintln 1\ndef x() { ''\n}\nObject evaluate(int snippet) {\nreturn __snippet0()\n}\n", asList("__snippet0", "evaluate")));
+		assertFalse(ExpressionFormat.isFormatScript("def __snippet0() {\n'' }\nclass X {}\ndef __snippet1() { ''\n}\nObject evaluate(int snippet) {\nreturn __snippet0()\n}\n", asList("__snippet0", "__snippet1", "evaluate")));
+	}
+
 	@Test
 	public void closures() throws Exception {
 		assertEquals("[ant, cat]", new TestScriptFormat("{['ant', 'buffalo', 'cat', 'dinosaur'].findAll{ it.size() <= 3 }}").format(null));
@@ -112,6 +135,44 @@ public class ExpressionFormatTest {
 		assertEquals("Suppressed: Binding \"xyz\": undefined", format.suppressed().getMessage());
 	}
 
+	@Rule
+	public TemporaryFolder formatClassFolder = new TemporaryFolder();
+
+	@Test
+	public void aheadOfTimeCompilation() throws Exception {
+		String[] expressions = { "X5-{value.pad(4)}-{value.size()}", "{x = value.upper(); x}-{x.lower()}", "{def y = value; y}-{y}", "Hello {xyz}", "Hello {xyz.size()}", "Hello {value.xyz}", "{xyz.size()}" };
+
+		// evaluate scriptlet by scriptlet
+		List<List<String>> expected = new ArrayList<List<String>>();
+		for (String expression : expressions) {
+			expected.add(evaluate(expression, "abc"));
+		}
+
+		// evaluate formats compiled into a single class via a temporary format class store
+		ExpressionFormat.setFormatClassFolder(formatClassFolder.getRoot());
+		System.setProperty("net.filebot.format.aot", "true");
+
+		try {
+			for (int i = 0; i < expressions.length; i++) {
+				assertEquals(expressions[i], expected.get(i), evaluate(expressions[i], "abc"));
+			}
+			assertTrue(formatClassFolder.getRoot().list().length > 0);
+		} finally {
+			System.clearProperty("net.filebot.format.aot");
+			ExpressionFormat.setFormatClassFolder(null);
+		}
+	}
+
+	private List<String> evaluate(String expression, Object value) throws Exception {
+		TestScriptFormat format = new TestScriptFormat(expression);
+		try {
+			String result = format.format(value);
+			return asList(result, format.suppressed() == null ? null : format.suppressed().getMessage());
+		} catch (SuppressedThrowables e) {
+			return asList(null, e.getMessage());
+		}
+	}
+
 	protected static class TestScriptFormat extends ExpressionFormat {
 
 		public TestScriptFormat(String format) throws ScriptException {
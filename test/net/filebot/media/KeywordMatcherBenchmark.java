@@ -0,0 +1,54 @@
+package net.filebot.media;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+/**
+ * Compare plain regex replacement with {@link KeywordMatcher} on a large release group list. Not part of any test suite, run manually via {@link #main(String[])}.
+ */
+public class KeywordMatcherBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		int size = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+
+		Random random = new Random(42);
+		String[] terms = new String[size];
+		for (int i = 0; i < terms.length; i++) {
+			terms[i] = randomWord(random, "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789", 3 + random.nextInt(6));
+		}
+
+		String[] input = new String[size];
+		for (int i = 0; i < input.length; i++) {
+			input[i] = String.format("%s.%s.%s.S01E%02d.1080p.WEB-DL-%s", randomWord(random, "aeiouxyz", 6), randomWord(random, "aeiouxyz", 4), randomWord(random, "aeiouxyz", 5), i % 100,
+					terms[random.nextInt(terms.length)]);
+		}
+
+		Pattern pattern = new ReleaseInfo().getReleaseGroupPattern(terms, false);
+		KeywordMatcher matcher = new KeywordMatcher(pattern, terms);
+
+		for (int round = 0; round < 5; round++) {
+			long regexTime = System.nanoTime();
+			for (String s : input) {
+				pattern.matcher(s).replaceAll("");
+			}
+			regexTime = System.nanoTime() - regexTime;
+
+			long matcherTime = System.nanoTime();
+			for (String s : input) {
+				matcher.replaceAll(s);
+			}
+			matcherTime = System.nanoTime() - matcherTime;
+
+			System.out.format("Round %d: Clean %,d names with %,d terms: regex %,d ms, keyword matcher %,d ms%n", round + 1, input.length, terms.length, regexTime / 1000000, matcherTime / 1000000);
+		}
+	}
+
+	private static String randomWord(Random random, String alphabet, int length) {
+		StringBuilder word = new StringBuilder();
+		for (int i = 0; i < length; i++) {
+			word.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return word.toString();
+	}
+
+}
@@ -0,0 +1,103 @@
+package net.filebot.media;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+public class KeywordMatcherTest {
+
+	ReleaseInfo info = new ReleaseInfo();
+
+	String[] groups = { "aXXo", "DVL", "iMBT", "HorribleSubs", "RARBG", "ION10", "C.B.C", "D-Z0N3", "H@M", "Legend", "x", "FGT", "NTb", "[a-z]+Subs", "EVO(TGx)?" };
+	String[] blacklist = { "AMZN", "Sample", "www[.]\\w+[.]\\w+", "\\d{3,4}p", "Extras", "(?i:Bonus)", "1CD|2CD" };
+
+	String[] names = { "[HorribleSubs]_Infinite_Stratos_2_-_01_[HorribleSubs]", "HorribleSubs_Infinite_Stratos_2_-_01_HorribleSubs", "Jurassic.Park[1993]DvDrip-aXXo[RARBG]", "Movie-DVL",
+			"The.Legend.Of.Zorro-iMBT", "[Legend].The.Legend.of.the.Blue.Sea.E01-Legend", "The.aXXo.Movie.2005", "Avatar.2009.AMZN.720p.WEB-DL-EVOTGx", "www.example.com - Movie Extras (2010) 1CD",
+			"(C.B.C) Some Show - 01 [FansubSubs]", "x.y.z-x", "H@M-D-Z0N3.[ION10].Sample\n", "", "-" };
+
+	@Test
+	public void replaceAll() throws Exception {
+		for (boolean strict : new boolean[] { true, false }) {
+			assertEquivalent(info.getReleaseGroupPattern(groups, strict), groups, names);
+		}
+		assertEquivalent(info.getReleaseGroupTrimPattern(groups), groups, names);
+		assertEquivalent(info.compileWordPattern(blacklist), blacklist, names);
+	}
+
+	@Test
+	public void replaceAllRandom() throws Exception {
+		Random random = new Random(42);
+		String[] terms = randomTerms(random, 200);
+		String[] input = randomNames(random, terms, 2000);
+
+		for (boolean strict : new boolean[] { true, false }) {
+			assertEquivalent(info.getReleaseGroupPattern(terms, strict), terms, input);
+		}
+		assertEquivalent(info.getReleaseGroupTrimPattern(terms), terms, input);
+		assertEquivalent(info.compileWordPattern(terms), terms, input);
+	}
+
+	@Test
+	public void replaceAllLarge() throws Exception {
+		Random random = new Random(42);
+		String[] terms = new String[5000];
+		for (int i = 0; i < terms.length; i++) {
+			terms[i] = randomWord(random, "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789", 3 + random.nextInt(6));
+		}
+
+		String[] input = new String[5000];
+		for (int i = 0; i < input.length; i++) {
+			input[i] = String.format("%s.%s.%s.S01E%02d.1080p.WEB-DL-%s", randomWord(random, "aeiouxyz", 6), randomWord(random, "aeiouxyz", 4), randomWord(random, "aeiouxyz", 5), i % 100,
+					terms[random.nextInt(terms.length)]);
+		}
+
+		assertEquivalent(info.getReleaseGroupPattern(terms, false), terms, input);
+	}
+
+	private void assertEquivalent(Pattern pattern, String[] terms, String[] input) {
+		KeywordMatcher matcher = new KeywordMatcher(pattern, terms);
+		for (String s : input) {
+			assertEquals(s, pattern.matcher(s).replaceAll(""), matcher.replaceAll(s));
+		}
+	}
+
+	private String[] randomTerms(Random random, int size) {
+		List<String> terms = new ArrayList<String>();
+		for (int i = 0; i < size; i++) {
+			String term = randomWord(random, "abcdeABCDE0123@-.", 1 + random.nextInt(6));
+			if (random.nextInt(20) == 0) {
+				term += "\\d+";
+			}
+			terms.add(term.replace(".", "[.]"));
+		}
+		return terms.toArray(new String[0]);
+	}
+
+	private String[] randomNames(Random random, String[] terms, int size) {
+		String separators = " .-_[]()@\n";
+		String[] names = new String[size];
+		for (int i = 0; i < size; i++) {
+			StringBuilder name = new StringBuilder();
+			for (int j = random.nextInt(8); j >= 0; j--) {
+				String word = random.nextBoolean() ? terms[random.nextInt(terms.length)].replaceAll("[\\\\\\[\\]d+]", "") : randomWord(random, "abcdeABCDE0123", 1 + random.nextInt(8));
+				name.append(word).append(separators.charAt(random.nextInt(separators.length())));
+			}
+			names[i] = random.nextBoolean() ? name.toString().trim() : name.toString();
+		}
+		return names;
+	}
+
+	private String randomWord(Random random, String alphabet, int length) {
+		StringBuilder word = new StringBuilder();
+		for (int i = 0; i < length; i++) {
+			word.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return word.toString();
+	}
+
+}
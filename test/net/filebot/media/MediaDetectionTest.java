@@ -1,15 +1,29 @@
 package net.filebot.media;
 
+import static java.util.Arrays.*;
 import static java.util.Collections.*;
 import static org.junit.Assert.*;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
+import javax.swing.Icon;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import net.filebot.web.Movie;
+import net.filebot.web.MovieIdentificationService;
 
 public class MediaDetectionTest {
 
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	@Test
 	public void parseMovieYear() {
 		assertEquals("[2009]", MediaDetection.parseMovieYear("Avatar 2009 2100").toString());
@@ -27,6 +41,48 @@ public class MediaDetectionTest {
 		assertEquals("[]", MediaDetection.detectSeriesNames(singleton(new File("Movie/LOTR.2001.AVC-1080")), false, Locale.ENGLISH).toString());
 	}
 
+	@Test
+	public void detectMoviesWithSharedQuery() throws Exception {
+		// same name terms, but only the first file has an nfo file
+		File a = new File(folder.newFolder("a", "Serenity"), "Serenity.avi");
+		File b = new File(folder.newFolder("b", "Serenity"), "Serenity.avi");
+		a.createNewFile();
+		b.createNewFile();
+		Files.write(new File(a.getParentFile(), "movie.nfo").toPath(), "http://www.imdb.com/title/tt0379786/".getBytes());
+
+		Movie descriptor = new Movie("Serenity", null, 2005, 379786, 16320, Locale.ENGLISH);
+		Movie searchResult = new Movie("Serenity", null, 1901, 0, -1, Locale.ENGLISH);
+
+		MovieIdentificationService service = new MovieIdentificationService() {
+
+			@Override
+			public String getIdentifier() {
+				return "Test";
+			}
+
+			@Override
+			public Icon getIcon() {
+				return null;
+			}
+
+			@Override
+			public List<Movie> searchMovie(String query, Locale locale) {
+				return singletonList(searchResult);
+			}
+
+			@Override
+			public Movie getMovieDescriptor(Movie movie, Locale locale) {
+				return movie.getImdbId() == descriptor.getImdbId() ? descriptor : null;
+			}
+		};
+
+		Map<File, List<Movie>> options = MediaDetection.detectMovies(asList(a, b), service, Locale.ENGLISH, false);
+
+		assertTrue(options.get(a).contains(descriptor));
+		assertFalse(options.get(a).contains(searchResult));
+		assertTrue(options.get(b).contains(searchResult));
+	}
+
 	@Test
 	public void grepImdbId() throws Exception {
 		assertEquals("[499549]", MediaDetection.grepImdbId("@see http://www.imdb.com/title/tt0499549/").toString());
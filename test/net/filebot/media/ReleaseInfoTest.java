@@ -4,10 +4,16 @@ package net.filebot.media;
 import static java.util.Collections.*;
 import static org.junit.Assert.*;
 
+import java.io.File;
+import java.nio.file.Files;
 import java.util.regex.Pattern;
 
 import org.junit.Test;
 
+import net.filebot.Cache;
+import net.filebot.CacheType;
+import net.filebot.CachedResource.Fetch;
+
 public class ReleaseInfoTest {
 
 	ReleaseInfo info = new ReleaseInfo();
@@ -17,6 +23,22 @@ public class ReleaseInfoTest {
 		assertEquals("DVDRip", info.getVideoSource("Jurassic.Park[1993]DvDrip-aXXo"));
 	}
 
+	@Test
+	public void fetchIfModified() throws Exception {
+		File file = File.createTempFile("release-groups", ".txt.xz");
+		try {
+			Files.write(file.toPath(), new byte[] { 1, 2, 3 });
+			file.setLastModified(System.currentTimeMillis() - 60000);
+
+			Fetch fetch = info.fetchIfModified("url.release-groups", Cache.getCache("test", CacheType.Daily));
+			assertEquals(3, fetch.fetch(file.toURI().toURL(), 0).remaining());
+			assertEquals(3, fetch.fetch(file.toURI().toURL(), file.lastModified() - 1000).remaining());
+			assertEquals(null, fetch.fetch(file.toURI().toURL(), System.currentTimeMillis()));
+		} finally {
+			file.delete();
+		}
+	}
+
 	@Test
 	public void getReleaseGroup() throws Exception {
 		assertEquals("aXXo", info.getReleaseGroup("Jurassic.Park[1993]DvDrip-aXXo"));
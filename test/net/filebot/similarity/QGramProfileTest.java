@@ -0,0 +1,46 @@
+package net.filebot.similarity;
+
+import static org.junit.Assert.*;
+import static org.simmetrics.builders.StringMetricBuilder.*;
+import static org.simmetrics.tokenizers.Tokenizers.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.simmetrics.StringMetric;
+import org.simmetrics.metrics.BlockDistance;
+
+public class QGramProfileTest {
+
+	StringMetric metric = with(new BlockDistance<String>()).tokenize(qGramWithPadding(3)).build();
+
+	@Test
+	public void getSimilarity() {
+		assertEquals(1, QGramProfile.of("").getSimilarity(QGramProfile.of("")), 0);
+		assertEquals(0, QGramProfile.of("").getSimilarity(QGramProfile.of("a")), 0);
+		assertEquals(1, QGramProfile.of("the simpsons").getSimilarity(QGramProfile.of("the simpsons")), 0);
+		assertEquals(metric.compare("aaaa", "aa"), QGramProfile.of("aaaa").getSimilarity(QGramProfile.of("aa")), 0);
+	}
+
+	@Test
+	public void blockDistanceEquivalence() {
+		Random random = new Random(42);
+		String alphabet = "ab#c é世😀";
+
+		for (int i = 0; i < 10000; i++) {
+			String s1 = randomString(random, alphabet);
+			String s2 = randomString(random, alphabet);
+			assertEquals(s1 + " | " + s2, metric.compare(s1, s2), new QGramProfile(s1).getSimilarity(new QGramProfile(s2)), 0);
+		}
+	}
+
+	private String randomString(Random random, String alphabet) {
+		StringBuilder s = new StringBuilder();
+		for (int i = random.nextInt(12); i > 0; i--) {
+			int p = random.nextInt(alphabet.length() - 1);
+			s.appendCodePoint(alphabet.codePointAt(Character.isLowSurrogate(alphabet.charAt(p)) ? p - 1 : p));
+		}
+		return s.toString();
+	}
+
+}
@@ -3,15 +3,13 @@ package net.filebot.subtitle;
 
 import static org.junit.Assert.*;
 
-import java.util.Scanner;
-
 import org.junit.Test;
 
 public class MicroDVDReaderTest {
 
 	@Test
 	public void parse() throws Exception {
-		MicroDVDReader reader = new MicroDVDReader(new Scanner("{856}{900}what's the plan?"));
+		MicroDVDReader reader = new MicroDVDReader("{856}{900}what's the plan?");
 
 		SubtitleElement element = reader.next();
 
@@ -22,7 +20,7 @@ public class MicroDVDReaderTest {
 
 	@Test
 	public void fps() throws Exception {
-		MicroDVDReader reader = new MicroDVDReader(new Scanner("{1}{1}100\n{300}{400} trim me "));
+		MicroDVDReader reader = new MicroDVDReader("{1}{1}100\n{300}{400} trim me ");
 
 		SubtitleElement element = reader.next();
 
@@ -33,7 +31,7 @@ public class MicroDVDReaderTest {
 
 	@Test
 	public void newline() throws Exception {
-		MicroDVDReader reader = new MicroDVDReader(new Scanner("\n\n{300}{400} l1|l2|l3| \n\n"));
+		MicroDVDReader reader = new MicroDVDReader("\n\n{300}{400} l1|l2|l3| \n\n");
 
 		String[] lines = reader.next().getText().split("\\n");
 
@@ -42,4 +40,12 @@ public class MicroDVDReaderTest {
 		assertEquals("l2", lines[1]);
 		assertEquals("l3", lines[2]);
 	}
+
+	@Test
+	public void emptyLine() throws Exception {
+		MicroDVDReader reader = new MicroDVDReader("{300}{400}l1||l3||");
+
+		assertEquals("l1\n\nl3", reader.next().getText());
+	}
+
 }
@@ -0,0 +1,31 @@
+package net.filebot.subtitle;
+
+import java.io.StringWriter;
+
+/**
+ * Measure {@link SubRipReader} throughput on a large generated subtitle file. Not part of any test suite, run manually via {@link #main(String[])}.
+ */
+public class SubRipReaderBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		int size = args.length > 0 ? Integer.parseInt(args[0]) : 200000;
+
+		StringWriter buffer = new StringWriter();
+		try (SubRipWriter out = new SubRipWriter(buffer)) {
+			for (int i = 0; i < size; i++) {
+				out.write(new SubtitleElement(i * 100, i * 100 + 99, "<b>Line " + i + "</b>\nSecond line"));
+			}
+		}
+
+		String corpus = buffer.toString();
+
+		for (int round = 0; round < 5; round++) {
+			long start = System.nanoTime();
+			long count = new SubRipReader(corpus).stream().count();
+			long time = System.nanoTime() - start;
+
+			System.out.format("Round %d: %,d elements in %,d ms (%,d chars)%n", round + 1, count, time / 1000000, corpus.length());
+		}
+	}
+
+}
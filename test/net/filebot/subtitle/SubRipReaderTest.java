@@ -0,0 +1,65 @@
+package net.filebot.subtitle;
+
+import static java.util.stream.Collectors.*;
+import static org.junit.Assert.*;
+
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.Test;
+
+public class SubRipReaderTest {
+
+	@Test
+	public void parse() throws Exception {
+		SubRipReader reader = new SubRipReader("1\r\n00:02:26,407 --> 00:02:31,356\r\n<i>Hello</i>\r\n<font color=\"#ccffee\">World</font>\r\n\r\n");
+
+		SubtitleElement element = reader.next();
+
+		assertEquals(146407, element.getStart());
+		assertEquals(151356, element.getEnd());
+		assertEquals("Hello\nWorld", element.getText());
+		assertFalse(reader.hasNext());
+	}
+
+	@Test
+	public void ignoreIllegalElements() throws Exception {
+		List<SubtitleElement> elements = new SubRipReader("1\n00:00:01.000 --> 00:00:02,000\nA\n\n2\n00:00:03,000 --> 00:00:04,000 X1:100\nB").stream().collect(toList());
+
+		assertEquals(1, elements.size());
+		assertEquals(3000, elements.get(0).getStart());
+		assertEquals("B", elements.get(0).getText());
+	}
+
+	@Test
+	public void write() throws Exception {
+		StringWriter buffer = new StringWriter();
+
+		try (SubRipWriter out = new SubRipWriter(buffer)) {
+			out.write(new SubtitleElement(146407, 36151356, "Hello\nWorld"));
+		}
+
+		String n = System.lineSeparator();
+		assertEquals("1" + n + "00:02:26,407 --> 10:02:31,356" + n + "Hello\nWorld" + n + n, buffer.toString());
+	}
+
+	@Test
+	public void roundTrip() throws Exception {
+		int size = 100;
+
+		StringWriter buffer = new StringWriter();
+		try (SubRipWriter out = new SubRipWriter(buffer)) {
+			for (int i = 0; i < size; i++) {
+				out.write(new SubtitleElement(i * 100, i * 100 + 99, "<b>Line " + i + "</b>\nSecond line"));
+			}
+		}
+
+		List<SubtitleElement> elements = new SubRipReader(buffer.toString()).stream().collect(toList());
+
+		assertEquals(size, elements.size());
+		assertEquals(9900, elements.get(size - 1).getStart());
+		assertEquals(9999, elements.get(size - 1).getEnd());
+		assertEquals("Line 99\nSecond line", elements.get(size - 1).getText());
+	}
+
+}
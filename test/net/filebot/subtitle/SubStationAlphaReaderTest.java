@@ -0,0 +1,42 @@
+package net.filebot.subtitle;
+
+import static java.util.stream.Collectors.*;
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class SubStationAlphaReaderTest {
+
+	private static final String HEADER = "[Script Info]\nTitle: Firefly\n\n[Events]\nFormat: Layer, Start, End, Style, Name, MarginL, MarginR, MarginV, Effect, Text\n";
+
+	@Test
+	public void parse() throws Exception {
+		SubStationAlphaReader reader = new SubStationAlphaReader(HEADER + "Dialogue: 0,0:42:16.33,0:42:19.39,Default,,0,0,0,,what's the plan, captain?\n");
+
+		SubtitleElement element = reader.next();
+
+		assertEquals(2536330, element.getStart());
+		assertEquals(2539390, element.getEnd());
+		assertEquals("what's the plan, captain?", element.getText());
+		assertFalse(reader.hasNext());
+	}
+
+	@Test
+	public void resolve() throws Exception {
+		SubStationAlphaReader reader = new SubStationAlphaReader(HEADER + "Dialogue: 0,0:00:01.00,0:00:02.00,Default,,0,0,0,,{\\i1}l1{\\i0}\\Nl2\\nl3\n");
+
+		assertEquals("l1\nl2\nl3", reader.next().getText());
+	}
+
+	@Test
+	public void ignoreDrawing() throws Exception {
+		SubStationAlphaReader reader = new SubStationAlphaReader(HEADER + "Comment: 0,0:00:00.00,0:00:01.00,Default,,0,0,0,,comment\nDialogue: 0,0:00:01.00,0:00:02.00,Default,,0,0,0,,{\\p1}m 0 0 l 100 0 100 100 0 100{\\p0}\nDialogue: 0,0:00:02.00,0:00:03.00,Default,,0,0,0,,text\n");
+
+		List<String> text = reader.stream().map(SubtitleElement::getText).collect(toList());
+
+		assertEquals("[text]", text.toString());
+	}
+
+}
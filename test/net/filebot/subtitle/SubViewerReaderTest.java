@@ -0,0 +1,29 @@
+package net.filebot.subtitle;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class SubViewerReaderTest {
+
+	@Test
+	public void parse() throws Exception {
+		SubViewerReader reader = new SubViewerReader("[INFORMATION]\n[TITLE]Firefly\n\n00:42:16.33,00:42:19.39\nwhat's the plan?\n");
+
+		SubtitleElement element = reader.next();
+
+		assertEquals(2536330, element.getStart());
+		assertEquals(2539390, element.getEnd());
+		assertEquals("what's the plan?", element.getText());
+		assertFalse(reader.hasNext());
+	}
+
+	@Test
+	public void newline() throws Exception {
+		SubViewerReader reader = new SubViewerReader("00:00:01.00,00:00:02.00\nl1[br]l2[BR]l3[br]\n\n00:00:03.00,00:00:04.00\nl1[br][br]l3\n");
+
+		assertEquals("l1\nl2\nl3", reader.next().getText());
+		assertEquals("l1\n\nl3", reader.next().getText());
+	}
+
+}
@@ -0,0 +1,47 @@
+package net.filebot.util;
+
+import static java.util.Arrays.*;
+import static java.util.stream.Collectors.*;
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class AlphanumComparatorTest {
+
+	AlphanumComparator comparator = new AlphanumComparator(Locale.ENGLISH);
+
+	@Test
+	public void sort() {
+		List<String> names = asList("Episode 10", "episode 2", "Episode 1", "Episode 01", "Épisode 3", "Episode", "1 Episode");
+		List<String> expected = asList("1 Episode", "Episode", "Episode 1", "Episode 01", "episode 2", "Épisode 3", "Episode 10");
+
+		assertEquals(expected, names.stream().sorted(comparator).collect(toList()));
+		assertEquals(expected, names.stream().sorted((a, b) -> comparator.getSortKey(a).compareTo(comparator.getSortKey(b))).collect(toList()));
+	}
+
+	@Test
+	public void sortKey() {
+		String alphabet = "aAbBéE 0019._-[]ßsS";
+		Random random = new Random(0);
+
+		String[] values = new String[500];
+		for (int i = 0; i < values.length; i++) {
+			char[] value = new char[random.nextInt(8)];
+			for (int j = 0; j < value.length; j++) {
+				value[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+			}
+			values[i] = new String(value);
+		}
+
+		for (String a : values) {
+			for (String b : values) {
+				assertEquals(a + " <=> " + b, comparator.compare(a, b), comparator.getSortKey(a).compareTo(comparator.getSortKey(b)));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,55 @@
+package net.filebot.util;
+
+import static java.util.Arrays.*;
+import static java.util.stream.Collectors.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import net.filebot.Cache;
+import net.filebot.CacheType;
+
+public class FolderIndexTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void list() throws Exception {
+		File root = folder.newFolder();
+		new File(root, "a.mkv").createNewFile();
+		new File(root, ".hidden").createNewFile();
+		new File(root, "b").mkdir();
+
+		long lastModified = System.currentTimeMillis() - 60000;
+		root.setLastModified(lastModified);
+
+		FolderIndex index = new FolderIndex(Cache.getCache("test_folders", CacheType.Daily));
+		assertEquals("[.hidden, a.mkv, b]", names(index.list(root)));
+
+		// unchanged folders are not read again
+		new File(root, "c.mkv").createNewFile();
+		root.setLastModified(lastModified);
+
+		File[] files = index.list(root);
+		sort(files);
+		assertEquals("[.hidden, a.mkv, b]", names(files));
+		assertEquals("[true, false, false]", stream(files).map(File::isHidden).collect(toList()).toString());
+		assertEquals("[false, false, true]", stream(files).map(File::isDirectory).collect(toList()).toString());
+
+		// modified folders are read again
+		root.setLastModified(lastModified + 1000);
+		assertEquals("[.hidden, a.mkv, b, c.mkv]", names(index.list(root)));
+	}
+
+	private String names(File[] files) {
+		List<String> names = stream(files).map(File::getName).sorted().collect(toList());
+		return names.toString();
+	}
+
+}
@@ -0,0 +1,66 @@
+package net.filebot.util;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import groovy.lang.Script;
+
+public class ScriptClassCacheTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	String script = "class Value { def x = 2 }; [1, 2, 3].collect{ it * new Value().x }";
+
+	@Test
+	public void compileAndLoad() throws Exception {
+		File cache = folder.newFolder();
+
+		Class<?> compiled = new ScriptClassCache(cache, new CompilerConfiguration(), "test").getScriptClass(script, getClass().getClassLoader());
+		assertEquals(1, cache.list().length);
+
+		Class<?> loaded = new ScriptClassCache(cache, new CompilerConfiguration(), "test").getScriptClass(script, getClass().getClassLoader());
+		assertEquals(1, cache.list().length);
+
+		assertEquals(compiled.getName(), loaded.getName());
+		assertNotSame(compiled, loaded);
+		assertEquals("[2, 4, 6]", ((Script) loaded.newInstance()).run().toString());
+	}
+
+	@Test
+	public void fingerprint() throws Exception {
+		File cache = folder.newFolder();
+
+		new ScriptClassCache(cache, new CompilerConfiguration(), "r1").getScriptClass(script, getClass().getClassLoader());
+		new ScriptClassCache(cache, new CompilerConfiguration(), "r2").getScriptClass(script, getClass().getClassLoader());
+
+		assertEquals(2, cache.list().length);
+	}
+
+	@Test
+	public void signature() throws Exception {
+		File cache = folder.newFolder();
+
+		new ScriptClassCache(cache, new CompilerConfiguration(), "test", new byte[] { 1 }).getScriptClass(script, getClass().getClassLoader());
+		File jar = cache.listFiles()[0];
+
+		try {
+			new ScriptClassCache(cache, new CompilerConfiguration(), "test", new byte[] { 2 }).load(jar, getClass().getClassLoader());
+			fail("SecurityException expected");
+		} catch (SecurityException e) {
+			assertEquals("BAD signature: " + jar, e.getMessage());
+		}
+
+		// classes signed with another key are compiled again
+		Class<?> compiled = new ScriptClassCache(cache, new CompilerConfiguration(), "test", new byte[] { 2 }).getScriptClass(script, getClass().getClassLoader());
+		assertEquals("[2, 4, 6]", ((Script) compiled.newInstance()).run().toString());
+		assertNotNull(new ScriptClassCache(cache, new CompilerConfiguration(), "test", new byte[] { 2 }).load(jar, getClass().getClassLoader()));
+	}
+
+}
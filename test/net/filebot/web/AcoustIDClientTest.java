@@ -1,10 +1,22 @@
 package net.filebot.web;
 
+import static java.util.Arrays.*;
 import static net.filebot.WebServices.*;
 import static org.junit.Assert.*;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.Test;
 
+import net.filebot.Cache;
+import net.filebot.CacheType;
+import net.filebot.web.AcoustIDClient.ChromaprintField;
+
 public class AcoustIDClientTest {
 
 	@Test
@@ -31,4 +43,57 @@ public class AcoustIDClientTest {
 		assertEquals("聽媽媽的話", info.getTitle());
 	}
 
+	@Test
+	public void lookupBatchCache() throws Exception {
+		String track = "{'id':'a1','score':0.9,'recordings':[{'duration':357,'title':'Thriller','artists':[{'name':'Michael Jackson'}],'releasegroups':[{'type':'Album','title':'Thriller','artists':[{'name':'Michael Jackson'}],'releases':[{'title':'Thriller','medium_count':1,'date':{'year':1982,'month':11,'day':30},'mediums':[{'position':1,'track_count':9,'tracks':[{'position':4,'title':'Thriller'}]}]}]}]}]}";
+		String batch = "{'status':'ok','fingerprints':[{'index':1,'results':[]},{'index':0,'results':[" + track + "]}]}";
+
+		List<Map<String, String>> requests = new ArrayList<Map<String, String>>();
+
+		AcoustIDClient client = new AcoustIDClient("test") {
+
+			@Override
+			public Cache getCache() {
+				return Cache.getCache("acoustid_test", CacheType.Daily);
+			}
+
+			@Override
+			protected String post(Map<String, String> postParam) throws Exception {
+				requests.add(postParam);
+				return batch.replace('\'', '"');
+			}
+		};
+		client.getCache().clear();
+
+		Map<File, Map<ChromaprintField, String>> fingerprints = new LinkedHashMap<File, Map<ChromaprintField, String>>();
+		fingerprints.put(new File("1.mp3"), fingerprint(357, "AQAB1"));
+		fingerprints.put(new File("2.mp3"), fingerprint(265, "AQAB2"));
+
+		Map<File, AudioTrack> results = client.lookup(fingerprints);
+
+		assertEquals(1, requests.size());
+		assertEquals(asList(new File("1.mp3"), new File("2.mp3")), new ArrayList<File>(results.keySet()));
+		assertNull(results.get(new File("2.mp3")));
+
+		// cached batch results must be parsed the same way as single lookup responses
+		AudioTrack single = client.parseResult(client.lookup(357, "AQAB1"), 357);
+		assertEquals(describe(results.get(new File("1.mp3"))), describe(single));
+		assertEquals("Michael Jackson - Thriller [Thriller, 1982-11-30, 1/1, 4/9, a1]", describe(single));
+		assertNull(client.parseResult(client.lookup(265, "AQAB2"), 265));
+
+		// single lookups are served from the cache
+		assertEquals(1, requests.size());
+	}
+
+	private Map<ChromaprintField, String> fingerprint(int duration, String fingerprint) {
+		Map<ChromaprintField, String> fp = new EnumMap<ChromaprintField, String>(ChromaprintField.class);
+		fp.put(ChromaprintField.DURATION, String.valueOf(duration));
+		fp.put(ChromaprintField.FINGERPRINT, fingerprint);
+		return fp;
+	}
+
+	private String describe(AudioTrack t) {
+		return String.format("%s [%s, %s, %s/%s, %s/%s, %s]", t, t.album, t.albumReleaseDate, t.mediumIndex, t.mediumCount, t.trackIndex, t.trackCount, t.mbid);
+	}
+
 }
@@ -3,6 +3,8 @@ package net.filebot.web;
 import static net.filebot.WebServices.*;
 import static org.junit.Assert.*;
 
+import java.io.BufferedReader;
+import java.io.StringReader;
 import java.util.List;
 import java.util.Locale;
 
@@ -31,6 +33,26 @@ public class AnidbClientTest {
 		assertTrue(animeTitles.length > 8000);
 	}
 
+	@Test
+	public void parseAnimeTitles() throws Exception {
+		String data = "# created: Mon Jan 1 00:00:00 2018\n" + "516|2|en|Princess Tutu\n" + "516|1|x-jat|Princess Tutu\n" + "516|3|en|TUTU\n" + "516|4|ja|\u30d7\u30ea\u30f3\u30bb\u30b9\u30c1\u30e5\u30c1\u30e5\n" + "69|4|en|One Piece\n"
+				+ "69|1|x-jat|One Piece\n" + "69|3|en|Onepi\n" + "69|2|de|One Piece\n" + "26|1|x-jat|Juuni Kokuki\n" + "26|4|en|The Twelve Kingdoms &amp; More &#39;Stuff&#x27;\n" + "bad|1|en|Invalid\n";
+
+		SearchResult[] results = AnidbClient.parseAnimeTitles(new BufferedReader(new StringReader(data)));
+
+		assertEquals(3, results.length);
+
+		assertEquals(26, results[0].getId());
+		assertEquals("Juuni Kokuki", results[0].getName());
+		assertArrayEquals(new String[] { "The Twelve Kingdoms & More 'Stuff'" }, results[0].getAliasNames());
+
+		assertEquals(69, results[1].getId());
+		assertArrayEquals(new String[] { "One Piece", "Onepi" }, results[1].getAliasNames());
+
+		assertEquals(516, results[2].getId());
+		assertArrayEquals(new String[] { "\u30d7\u30ea\u30f3\u30bb\u30b9\u30c1\u30e5\u30c1\u30e5", "Princess Tutu" }, results[2].getAliasNames());
+	}
+
 	@Test
 	public void search() throws Exception {
 		List<SearchResult> results = AniDB.search("one piece", Locale.ENGLISH);
@@ -0,0 +1,74 @@
+package net.filebot.web;
+
+import static java.util.Arrays.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class OpenSubtitlesHasherRandomTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	int[] sizes = { 0, 1, 7, 8, 9, 4096, 65535, 65536, 65537, 65543, 100000, 131071, 131072, 131073, 500001, 1048576 };
+
+	@Test
+	public void computeHash() throws Exception {
+		Random random = new Random(42);
+		List<File> files = new ArrayList<File>();
+
+		for (int size : sizes) {
+			byte[] data = new byte[size];
+			random.nextBytes(data);
+
+			File file = folder.newFile(size + ".bin");
+			Files.write(file.toPath(), data);
+			files.add(file);
+
+			String expectedHash = computeHashReference(data);
+			assertEquals(expectedHash, OpenSubtitlesHasher.computeHashNIO(file));
+			assertEquals(expectedHash, OpenSubtitlesHasher.computeHash(file));
+
+			try (FileInputStream in = new FileInputStream(file)) {
+				assertEquals(expectedHash, OpenSubtitlesHasher.computeHash(in, size));
+			}
+		}
+
+		Map<File, String> hashes = OpenSubtitlesHasher.computeHashes(files);
+		assertEquals(files, new ArrayList<File>(hashes.keySet()));
+
+		for (File file : files) {
+			assertEquals(computeHashReference(Files.readAllBytes(file.toPath())), hashes.get(file));
+		}
+	}
+
+	private String computeHashReference(byte[] data) {
+		int chunkSize = Math.min(OpenSubtitlesHasher.HASH_CHUNK_SIZE, data.length);
+		long head = sum(copyOfRange(data, 0, chunkSize));
+		long tail = sum(copyOfRange(data, data.length - chunkSize, data.length));
+		return String.format("%016x", data.length + head + tail);
+	}
+
+	private long sum(byte[] chunk) {
+		LongBuffer buffer = ByteBuffer.wrap(chunk).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+		long hash = 0;
+		while (buffer.hasRemaining()) {
+			hash += buffer.get();
+		}
+		return hash;
+	}
+
+}